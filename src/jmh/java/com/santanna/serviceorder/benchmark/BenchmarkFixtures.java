@@ -0,0 +1,71 @@
+package com.santanna.serviceorder.benchmark;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.model.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public final class BenchmarkFixtures {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 10, 30, 15);
+
+    private BenchmarkFixtures() {
+    }
+
+    public static Order order(long id) {
+        return Order.builder()
+                .id(id)
+                .orderNumber("ORD" + id)
+                .productName("Produto Exemplo " + id)
+                .quantity(10)
+                .totalValue(new BigDecimal("1000.00"))
+                .orderStatus(OrderStatus.PROCESSED)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    public static OrderResponseDto responseDto(long id) {
+        return OrderResponseDto.builder()
+                .id(id)
+                .orderNumber("ORD" + id)
+                .productName("Produto Exemplo " + id)
+                .quantity(10)
+                .totalValue(new BigDecimal("1000.00"))
+                .status(OrderStatus.PROCESSED)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+
+    public static Page<OrderResponseDto> responsePage(int size) {
+        List<OrderResponseDto> content = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            content.add(responseDto(i + 1));
+        }
+        return new PageImpl<>(content, PageRequest.of(0, size), 1_000_000L);
+    }
+
+    public static OrderRequestDto validRequest() {
+        return OrderRequestDto.builder()
+                .orderNumber("ORD12345")
+                .productName("Produto Exemplo")
+                .quantity(10)
+                .unitPrice(new BigDecimal("100.00"))
+                .build();
+    }
+
+    public static OrderRequestDto invalidRequest() {
+        return OrderRequestDto.builder()
+                .orderNumber("")
+                .productName("")
+                .quantity(0)
+                .unitPrice(BigDecimal.ZERO)
+                .build();
+    }
+}
@@ -0,0 +1,78 @@
+package com.santanna.serviceorder.benchmark;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CacheHitRatioBenchmark {
+    @Param({"evict-all", "evict-key", "write-through"})
+    private String policy;
+
+    @Param({"90", "99"})
+    private int readPercent;
+
+    @Param({"10000"})
+    private int orders;
+
+    @Param({"200"})
+    private long loadLatencyMicros;
+
+    private Cache cache;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Lookups {
+        public long hits;
+        public long misses;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cache = new ConcurrentMapCache("orders");
+    }
+
+    @Benchmark
+    public Object mixedReadUpdate(Lookups lookups) {
+        var random = ThreadLocalRandom.current();
+        long id = random.nextLong(orders) + 1;
+        if (random.nextInt(100) < readPercent) {
+            OrderResponseDto cached = cache.get(id, OrderResponseDto.class);
+            if (cached != null) {
+                lookups.hits++;
+                return cached;
+            }
+            lookups.misses++;
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(loadLatencyMicros));
+            var loaded = BenchmarkFixtures.responseDto(id);
+            cache.put(id, loaded);
+            return loaded;
+        }
+
+        var updated = BenchmarkFixtures.responseDto(id);
+        updated.setStatus(OrderStatus.DELIVERED);
+        switch (policy) {
+            case "evict-all" -> cache.clear();
+            case "evict-key" -> cache.evict(id);
+            default -> cache.put(id, updated);
+        }
+        return updated;
+    }
+}
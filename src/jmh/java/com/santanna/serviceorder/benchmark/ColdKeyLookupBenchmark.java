@@ -0,0 +1,115 @@
+package com.santanna.serviceorder.benchmark;
+
+import com.santanna.serviceorder.infrastructure.cache.SingleFlightCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ColdKeyLookupBenchmark {
+    @Param({"direct", "single-flight"})
+    private String mode;
+
+    @Param({"16", "256"})
+    private int concurrentRequests;
+
+    @Param({"2000"})
+    private long loadLatencyMicros;
+
+    private final AtomicLong keys = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private Cache cache;
+    private ExecutorService executor;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class LoaderCalls {
+        public long loaderCalls;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Cache remoteCache = new CheckThenLoadCache();
+        cache = "single-flight".equals(mode) ? new SingleFlightCache(remoteCache, new SimpleMeterRegistry()) : remoteCache;
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public Object concurrentMissesOnColdKey(LoaderCalls loaderCalls) throws Exception {
+        long key = keys.incrementAndGet();
+        long loadsBefore = loads.get();
+        Callable<Object> loader = () -> {
+            loads.incrementAndGet();
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(loadLatencyMicros));
+            return BenchmarkFixtures.responseDto(key);
+        };
+
+        var startGate = new CountDownLatch(1);
+        List<Future<Object>> results = new ArrayList<>(concurrentRequests);
+        for (int i = 0; i < concurrentRequests; i++) {
+            results.add(executor.submit(() -> {
+                startGate.await();
+                return cache.get(key, loader);
+            }));
+        }
+        startGate.countDown();
+
+        Object last = null;
+        for (Future<Object> result : results) {
+            last = result.get();
+        }
+        loaderCalls.loaderCalls += loads.get() - loadsBefore;
+        return last;
+    }
+
+    private static final class CheckThenLoadCache extends ConcurrentMapCache {
+        private CheckThenLoadCache() {
+            super("orders");
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            ValueWrapper wrapper = get(key);
+            if (wrapper != null) {
+                return (T) wrapper.get();
+            }
+            try {
+                T value = valueLoader.call();
+                put(key, value);
+                return value;
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+        }
+    }
+}
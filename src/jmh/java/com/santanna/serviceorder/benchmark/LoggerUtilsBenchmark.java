@@ -0,0 +1,70 @@
+package com.santanna.serviceorder.benchmark;
+
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoggerUtilsBenchmark {
+    private final LoggerUtils loggerUtils = new LoggerUtils();
+    private final Long id = 12345L;
+    private final String orderNumber = "ORD12345";
+
+    @Benchmark
+    public void logInfoEnabled() {
+        loggerUtils.logInfo(LoggerUtilsBenchmark.class, "Order status updated successfully. ID: {}, Number: {}", id, orderNumber);
+    }
+
+    @Benchmark
+    public void logDebugDisabled() {
+        loggerUtils.logDebug(LoggerUtilsBenchmark.class, "Converting Order entity to DTO. ID: {}", id);
+    }
+
+    @Benchmark
+    public void requestLoggingAtInfo() {
+        loggerUtils.logInfo(LoggerUtilsBenchmark.class, "Received request to fetch order by ID: {}", id);
+        loggerUtils.logInfo(LoggerUtilsBenchmark.class, "Fetching order by ID: {}", id);
+        loggerUtils.logDebug(LoggerUtilsBenchmark.class, "Converting Order entity to DTO. ID: {}", id);
+        loggerUtils.logInfo(LoggerUtilsBenchmark.class, "Order found. ID: {}", id);
+        loggerUtils.logInfo(LoggerUtilsBenchmark.class, "Order retrieved successfully. ID: {}", id);
+    }
+
+    @Benchmark
+    public void legacyLogInfoEnabled() {
+        legacyLogInfo(LoggerUtilsBenchmark.class, "Order status updated successfully. ID: {}, Number: {}", id, orderNumber);
+    }
+
+    @Benchmark
+    public void legacyLogDebugDisabled() {
+        legacyLogDebug(LoggerUtilsBenchmark.class, "Converting Order entity to DTO. ID: {}", id);
+    }
+
+    @Benchmark
+    public void legacyRequestLoggingAtInfo() {
+        legacyLogInfo(LoggerUtilsBenchmark.class, "Received request to fetch order by ID: {}", id);
+        legacyLogInfo(LoggerUtilsBenchmark.class, "Fetching order by ID: {}", id);
+        legacyLogDebug(LoggerUtilsBenchmark.class, "Converting Order entity to DTO. ID: {}", id);
+        legacyLogInfo(LoggerUtilsBenchmark.class, "Order found. ID: {}", id);
+        legacyLogInfo(LoggerUtilsBenchmark.class, "Order retrieved successfully. ID: {}", id);
+    }
+
+    private static void legacyLogInfo(Class<?> clazz, String message, Object... args) {
+        Logger logger = LoggerFactory.getLogger(clazz);
+        logger.info(message, args);
+    }
+
+    private static void legacyLogDebug(Class<?> clazz, String message, Object... args) {
+        Logger logger = LoggerFactory.getLogger(clazz);
+        logger.debug(message, args);
+    }
+}
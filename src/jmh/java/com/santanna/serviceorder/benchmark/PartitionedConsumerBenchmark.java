@@ -0,0 +1,69 @@
+package com.santanna.serviceorder.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PartitionedConsumerBenchmark {
+    private static final int MESSAGES = 2_000;
+    private static final int ORDER_NUMBERS = 200;
+
+    @Param({"1", "2", "4", "8", "16"})
+    private int partitions;
+
+    @Param({"200"})
+    private long processingMicros;
+
+    private List<ExecutorService> consumers;
+    private String[] orderNumbers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        consumers = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            consumers.add(Executors.newSingleThreadExecutor());
+        }
+        orderNumbers = new String[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            orderNumbers[i] = "ORD" + (i % ORDER_NUMBERS);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        consumers.forEach(ExecutorService::shutdownNow);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void consumePartitionedByOrderNumber() throws InterruptedException {
+        var done = new CountDownLatch(MESSAGES);
+        for (int sequence = 0; sequence < MESSAGES; sequence++) {
+            String orderNumber = orderNumbers[sequence];
+            consumers.get(Math.floorMod(orderNumber.hashCode(), partitions)).execute(() -> {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(processingMicros));
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,56 @@
+package com.santanna.serviceorder.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.infrastructure.cache.OrderCacheValueSerializer;
+import com.santanna.serviceorder.infrastructure.config.RedisConfig;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RedisValueSerializerBenchmark {
+    @Param({"json", "binary"})
+    private String format;
+
+    private RedisSerializer<Object> serializer;
+    private OrderResponseDto order;
+    private byte[] serialized;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        var jsonSerializer = RedisConfig.cacheValueSerializer(new ObjectMapper());
+        serializer = new OrderCacheValueSerializer(jsonSerializer, "binary".equals(format));
+        order = BenchmarkFixtures.responseDto(1L);
+        serialized = serializer.serialize(order);
+    }
+
+    @Benchmark
+    public byte[] serialize(PayloadSize size) {
+        byte[] payload = serializer.serialize(order);
+        size.payloadBytes = payload.length;
+        return payload;
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(serialized);
+    }
+}
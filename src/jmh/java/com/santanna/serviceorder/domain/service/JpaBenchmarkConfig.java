@@ -0,0 +1,63 @@
+package com.santanna.serviceorder.domain.service;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@EnableJpaRepositories(basePackageClasses = OrderRepository.class)
+class JpaBenchmarkConfig {
+    static final LocalDateTime SEED_CREATED_AT = LocalDateTime.of(2024, 1, 1, 10, 30, 15);
+
+    @Bean
+    public DataSource dataSource() {
+        return new SingleConnectionDataSource("jdbc:h2:mem:order-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1", true);
+    }
+
+    @Bean
+    public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+        var entityManagerFactory = new LocalContainerEntityManagerFactoryBean();
+        entityManagerFactory.setDataSource(dataSource);
+        entityManagerFactory.setPackagesToScan("com.santanna.serviceorder.domain.model");
+        entityManagerFactory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        entityManagerFactory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+        return entityManagerFactory;
+    }
+
+    @Bean
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    static void seed(DataSource dataSource, int rows, boolean distinctCreatedAt) {
+        List<Object[]> values = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            var createdAt = distinctCreatedAt ? SEED_CREATED_AT.plusSeconds(i) : SEED_CREATED_AT;
+            values.add(new Object[]{"ORD" + i, "Produto Exemplo " + i, 10, new BigDecimal("1000.00"),
+                    OrderStatus.PROCESSED.name(), Timestamp.valueOf(createdAt), 0L});
+        }
+        new JdbcTemplate(dataSource).batchUpdate(
+                "INSERT INTO orders (order_number, product_name, quantity, total_value, order_status, created_at, version) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)", values);
+    }
+}
@@ -0,0 +1,96 @@
+package com.santanna.serviceorder.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.infrastructure.cache.OrderSearchCache;
+import com.santanna.serviceorder.infrastructure.dedup.OrderNumberDeduplicator;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.infrastructure.metrics.OrderStatusCounters;
+import com.santanna.serviceorder.infrastructure.repository.OrderOutboxRepository;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class OrderConsumptionBenchmark {
+    private static final int MESSAGES = 100;
+
+    @Param({"single", "batch"})
+    private String mode;
+
+    private AnnotationConfigApplicationContext context;
+    private OrderService orderService;
+    private TransactionTemplate transaction;
+    private long nextOrderNumber;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(JpaBenchmarkConfig.class);
+        var loggerUtils = new LoggerUtils();
+        var meterRegistry = new SimpleMeterRegistry();
+        var orderRepository = context.getBean(OrderRepository.class);
+        var orderOutboxService = new OrderOutboxService(loggerUtils, context.getBean(OrderOutboxRepository.class),
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+        var deduplicator = new OrderNumberDeduplicator(null, loggerUtils, meterRegistry, 1_000_000, 0.01, false, 24);
+        var searchCache = new OrderSearchCache(null, null, loggerUtils) {
+            @Override
+            public void invalidate(Collection<OrderStatus> statuses) {
+            }
+        };
+        orderService = new OrderService(loggerUtils, orderRepository, new ConcurrentMapCacheManager(),
+                new OrderMetrics(meterRegistry, null), orderOutboxService, deduplicator,
+                new OrderStatusCounters(null, orderRepository, loggerUtils, 60_000), searchCache);
+        transaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void consumeMessages() {
+        List<OrderRequestDto> messages = new ArrayList<>(MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            messages.add(OrderRequestDto.builder()
+                    .orderNumber("ORD" + nextOrderNumber++)
+                    .productName("Produto Exemplo")
+                    .quantity(10)
+                    .unitPrice(new BigDecimal("100.00"))
+                    .build());
+        }
+        if ("batch".equals(mode)) {
+            transaction.executeWithoutResult(status -> orderService.createOrders(messages));
+            return;
+        }
+        for (OrderRequestDto message : messages) {
+            transaction.executeWithoutResult(status -> orderService.createOrder(message));
+        }
+    }
+}
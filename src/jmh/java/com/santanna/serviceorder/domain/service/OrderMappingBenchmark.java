@@ -0,0 +1,34 @@
+package com.santanna.serviceorder.domain.service;
+
+import com.santanna.serviceorder.benchmark.BenchmarkFixtures;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderMappingBenchmark {
+    private OrderService orderService;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        orderService = new OrderService(new LoggerUtils(), null, null, null, null, null, null, null);
+        order = BenchmarkFixtures.order(1L);
+    }
+
+    @Benchmark
+    public OrderResponseDto toResponseDto() {
+        return orderService.toResponseDto(order);
+    }
+}
@@ -0,0 +1,75 @@
+package com.santanna.serviceorder.domain.service;
+
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderPagingDepthBenchmark {
+    private static final int ROWS = 100_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"offset", "keyset"})
+    private String mode;
+
+    @Param({"1", "100", "1000", "4999"})
+    private int pageDepth;
+
+    private AnnotationConfigApplicationContext context;
+    private OrderService orderService;
+    private TransactionTemplate readOnlyTransaction;
+    private Pageable offsetPage;
+    private String cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(JpaBenchmarkConfig.class);
+        orderService = new OrderService(new LoggerUtils(), context.getBean(OrderRepository.class), null, null, null, null, null, null);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        JpaBenchmarkConfig.seed(context.getBean(DataSource.class), ROWS, true);
+
+        offsetPage = PageRequest.of(pageDepth, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        if ("keyset".equals(mode)) {
+            for (int page = 0; page < pageDepth; page++) {
+                String after = cursor;
+                cursor = readOnlyTransaction.execute(status -> orderService.getOrdersAfter(after, PAGE_SIZE)).getNextCursor();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<OrderResponseDto> readPageAtDepth() {
+        if ("keyset".equals(mode)) {
+            return readOnlyTransaction.execute(status -> orderService.getOrdersAfter(cursor, PAGE_SIZE).getContent());
+        }
+        return readOnlyTransaction.execute(status -> orderService.getAllOrders(offsetPage).getContent());
+    }
+}
@@ -0,0 +1,77 @@
+package com.santanna.serviceorder.domain.service;
+
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class OrderReadPathBenchmark {
+    private static final int ROWS = 20_000;
+
+    @Param({"entity", "projection"})
+    private String path;
+
+    @Param({"1000"})
+    private int pageSize;
+
+    private AnnotationConfigApplicationContext context;
+    private OrderRepository orderRepository;
+    private OrderService orderService;
+    private TransactionTemplate readOnlyTransaction;
+    private int pages;
+    private int nextPage;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new AnnotationConfigApplicationContext(JpaBenchmarkConfig.class);
+        orderRepository = context.getBean(OrderRepository.class);
+        orderService = new OrderService(new LoggerUtils(), orderRepository, null, null, null, null, null, null);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+        pages = ROWS / pageSize;
+        JpaBenchmarkConfig.seed(context.getBean(DataSource.class), ROWS, false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<OrderResponseDto> readPage() {
+        var pageable = PageRequest.of(nextPage++ % pages, pageSize);
+        if ("projection".equals(path)) {
+            return readOnlyTransaction.execute(status -> orderRepository.findAllResponses(pageable));
+        }
+        return readOnlyTransaction.execute(status -> orderRepository.findAll(pageable).map(orderService::toResponseDto));
+    }
+
+    @Benchmark
+    public OrderResponseDto readById() {
+        long id = nextPage++ % ROWS + 1;
+        if ("projection".equals(path)) {
+            return readOnlyTransaction.execute(status -> orderRepository.findResponseById(id).orElseThrow());
+        }
+        return readOnlyTransaction.execute(status -> orderService.toResponseDto(orderRepository.findById(id).orElseThrow()));
+    }
+}
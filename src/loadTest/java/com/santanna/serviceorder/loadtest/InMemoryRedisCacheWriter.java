@@ -0,0 +1,106 @@
+package com.santanna.serviceorder.loadtest;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class InMemoryRedisCacheWriter implements RedisCacheWriter {
+    private final Map<String, Entry> store;
+    private final CacheStatisticsCollector statistics;
+
+    public InMemoryRedisCacheWriter() {
+        this(new ConcurrentHashMap<>(), CacheStatisticsCollector.none());
+    }
+
+    private InMemoryRedisCacheWriter(Map<String, Entry> store, CacheStatisticsCollector statistics) {
+        this.store = store;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        statistics.incGets(name);
+        Entry entry = store.get(toKey(key));
+        if (entry == null || entry.isExpired()) {
+            statistics.incMisses(name);
+            return null;
+        }
+        statistics.incHits(name);
+        return entry.value();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return CompletableFuture.completedFuture(get(name, key));
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        statistics.incPuts(name);
+        store.put(toKey(key), new Entry(value, expiresAt(ttl)));
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        put(name, key, value, ttl);
+        return CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        Entry existing = store.putIfAbsent(toKey(key), new Entry(value, expiresAt(ttl)));
+        if (existing != null && !existing.isExpired()) {
+            return existing.value();
+        }
+        statistics.incPuts(name);
+        store.put(toKey(key), new Entry(value, expiresAt(ttl)));
+        return null;
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        statistics.incDeletes(name);
+        store.remove(toKey(key));
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        String prefix = toKey(pattern).replace("*", "");
+        store.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        statistics.reset(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new InMemoryRedisCacheWriter(store, cacheStatisticsCollector);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return statistics.getCacheStatistics(cacheName);
+    }
+
+    private String toKey(byte[] key) {
+        return new String(key, StandardCharsets.UTF_8);
+    }
+
+    private long expiresAt(Duration ttl) {
+        return ttl == null || ttl.isZero() || ttl.isNegative() ? Long.MAX_VALUE : System.nanoTime() + ttl.toNanos();
+    }
+
+    private record Entry(byte[] value, long expiresAtNanos) {
+        boolean isExpired() {
+            return expiresAtNanos != Long.MAX_VALUE && System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.santanna.serviceorder.loadtest;
+
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class InMemoryStringRedisTemplate extends StringRedisTemplate {
+    private final Map<String, Entry> store = new ConcurrentHashMap<>();
+    private final ValueOperations<String, String> valueOperations = proxy(ValueOperations.class, this::value);
+    private final HashOperations<String, Object, Object> hashOperations = proxy(HashOperations.class, this::hash);
+
+    @Override
+    public void afterPropertiesSet() {
+    }
+
+    @Override
+    public ValueOperations<String, String> opsForValue() {
+        return valueOperations;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <HK, HV> HashOperations<String, HK, HV> opsForHash() {
+        return (HashOperations<String, HK, HV>) (HashOperations<String, ?, ?>) hashOperations;
+    }
+
+    @Override
+    public Boolean expire(String key, long timeout, TimeUnit unit) {
+        Entry expiring = store.computeIfPresent(key, (ignored, entry) ->
+                entry.isExpired() ? null : new Entry(entry.value(), expiresAt(Duration.ofNanos(unit.toNanos(timeout)))));
+        return expiring != null;
+    }
+
+    @Override
+    public Boolean delete(String key) {
+        Entry removed = store.remove(key);
+        return removed != null && !removed.isExpired();
+    }
+
+    @Override
+    public Boolean hasKey(String key) {
+        return live(key) != null;
+    }
+
+    @Override
+    public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+        throw new UnsupportedOperationException("Lua scripts are not supported by the in-memory Redis stand-in");
+    }
+
+    private Object value(Method method, Object[] args) {
+        String key = args != null && args.length > 0 ? (String) args[0] : null;
+        return switch (method.getName()) {
+            case "get" -> {
+                if (args.length != 1) {
+                    throw unsupported(method);
+                }
+                yield live(key) instanceof String value ? value : null;
+            }
+            case "set" -> {
+                store.put(key, new Entry(args[1], expiresAt(ttl(method, args))));
+                yield null;
+            }
+            case "setIfAbsent" -> {
+                var created = new Entry(args[1], expiresAt(ttl(method, args)));
+                yield store.compute(key, (ignored, entry) -> entry == null || entry.isExpired() ? created : entry) == created;
+            }
+            case "increment" -> {
+                if (args.length > 1 && !(args[1] instanceof Long)) {
+                    throw unsupported(method);
+                }
+                long delta = args.length > 1 ? ((Number) args[1]).longValue() : 1L;
+                Entry updated = store.compute(key, (ignored, entry) -> {
+                    long current = entry == null || entry.isExpired() ? 0L : Long.parseLong((String) entry.value());
+                    return new Entry(String.valueOf(current + delta), entry == null || entry.isExpired() ? Long.MAX_VALUE : entry.expiresAtNanos());
+                });
+                yield Long.valueOf((String) updated.value());
+            }
+            default -> throw unsupported(method);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object hash(Method method, Object[] args) {
+        String key = (String) args[0];
+        return switch (method.getName()) {
+            case "entries" -> live(key) instanceof Map<?, ?> fields ? new HashMap<>(fields) : new HashMap<>();
+            case "get" -> live(key) instanceof Map<?, ?> fields ? fields.get(args[1]) : null;
+            case "put" -> {
+                fields(key).put(args[1], args[2]);
+                yield null;
+            }
+            case "putAll" -> {
+                fields(key).putAll((Map<Object, Object>) args[1]);
+                yield null;
+            }
+            default -> throw unsupported(method);
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> fields(String key) {
+        Entry entry = store.compute(key, (ignored, existing) -> existing == null || existing.isExpired()
+                ? new Entry(new ConcurrentHashMap<>(), Long.MAX_VALUE)
+                : existing);
+        return (Map<Object, Object>) entry.value();
+    }
+
+    private Object live(String key) {
+        Entry entry = store.get(key);
+        return entry == null || entry.isExpired() ? null : entry.value();
+    }
+
+    private <T> T proxy(Class<T> type, Operation operation) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (instance, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> instance == args[0];
+                    case "hashCode" -> System.identityHashCode(instance);
+                    default -> type.getSimpleName() + " in memory";
+                };
+            }
+            if (method.getName().equals("getOperations")) {
+                return this;
+            }
+            return operation.apply(method, args);
+        }));
+    }
+
+    private UnsupportedOperationException unsupported(Method method) {
+        return new UnsupportedOperationException(method.getName() + " is not supported by the in-memory Redis stand-in");
+    }
+
+    private Duration ttl(Method method, Object[] args) {
+        if (args.length == 2) {
+            return null;
+        }
+        if (args.length == 3 && args[2] instanceof Duration ttl) {
+            return ttl;
+        }
+        if (args.length == 4 && args[3] instanceof TimeUnit unit) {
+            return Duration.ofNanos(unit.toNanos((Long) args[2]));
+        }
+        throw unsupported(method);
+    }
+
+    private long expiresAt(Duration ttl) {
+        return ttl == null || ttl.isZero() || ttl.isNegative() ? Long.MAX_VALUE : System.nanoTime() + ttl.toNanos();
+    }
+
+    private interface Operation {
+        Object apply(Method method, Object[] args);
+    }
+
+    private record Entry(Object value, long expiresAtNanos) {
+        boolean isExpired() {
+            return expiresAtNanos != Long.MAX_VALUE && System.nanoTime() - expiresAtNanos > 0;
+        }
+    }
+}
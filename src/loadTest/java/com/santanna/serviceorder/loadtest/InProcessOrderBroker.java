@@ -0,0 +1,37 @@
+package com.santanna.serviceorder.loadtest;
+
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.infrastructure.messaging.OrderMessageConsumer;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class InProcessOrderBroker implements AutoCloseable {
+    private final Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+    private final OrderMessageConsumer orderMessageConsumer;
+    private final ExecutorService listeners;
+
+    public InProcessOrderBroker(OrderMessageConsumer orderMessageConsumer, int concurrency) {
+        this.orderMessageConsumer = orderMessageConsumer;
+        this.listeners = Executors.newFixedThreadPool(concurrency);
+    }
+
+    public CompletableFuture<Void> publish(OrderRequestDto orderRequestDto) {
+        Message message = messageConverter.toMessage(orderRequestDto, new MessageProperties());
+        return CompletableFuture.runAsync(() -> deliver(message), listeners);
+    }
+
+    private void deliver(Message message) {
+        message.getMessageProperties().setInferredArgumentType(OrderRequestDto.class);
+        orderMessageConsumer.receiveOrder((OrderRequestDto) messageConverter.fromMessage(message));
+    }
+
+    @Override
+    public void close() {
+        listeners.shutdownNow();
+    }
+}
@@ -0,0 +1,48 @@
+package com.santanna.serviceorder.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class LoadGenerator {
+
+    public record Result(double elapsedSeconds, long issued) {
+        public double throughput() {
+            return issued / elapsedSeconds;
+        }
+    }
+
+    public Result run(double ratePerSecond, Duration duration,
+                      Supplier<OperationStats> statsSelector,
+                      Function<OperationStats, CompletableFuture<Boolean>> operation) {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        long totalOperations = (long) (ratePerSecond * duration.toSeconds());
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+
+        long start = System.nanoTime();
+        for (long i = 0; i < totalOperations; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            OperationStats stats = statsSelector.get();
+            inFlight.add(operation.apply(stats)
+                    .handle((success, ex) -> {
+                        // Latency is measured from the intended start so a stalled server is not hidden.
+                        stats.record(System.nanoTime() - intendedStart, ex == null && Boolean.TRUE.equals(success));
+                        return null;
+                    }));
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        return new Result(elapsedSeconds, totalOperations);
+    }
+}
@@ -0,0 +1,38 @@
+package com.santanna.serviceorder.loadtest;
+
+import java.time.Duration;
+
+public record LoadTestSettings(
+        Duration duration,
+        double httpRate,
+        double queueRate,
+        int createWeight,
+        int getWeight,
+        int listWeight,
+        int updateWeight,
+        int listenerConcurrency,
+        double maxP99Millis,
+        double maxErrorRate,
+        double minThroughputRatio) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Duration.ofSeconds(Long.getLong("loadtest.durationSeconds", 30)),
+                doubleProperty("loadtest.http.rate", 200),
+                doubleProperty("loadtest.queue.rate", 200),
+                Integer.getInteger("loadtest.mix.create", 20),
+                Integer.getInteger("loadtest.mix.get", 60),
+                Integer.getInteger("loadtest.mix.list", 10),
+                Integer.getInteger("loadtest.mix.update", 10),
+                Integer.getInteger("loadtest.queue.concurrency", 10),
+                doubleProperty("loadtest.threshold.p99Millis", 500),
+                doubleProperty("loadtest.threshold.errorRate", 0.01),
+                doubleProperty("loadtest.threshold.throughputRatio", 0.9)
+        );
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty(name);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+}
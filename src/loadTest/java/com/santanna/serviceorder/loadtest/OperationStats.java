@@ -0,0 +1,49 @@
+package com.santanna.serviceorder.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+public class OperationStats {
+    private final String name;
+    private final List<Long> latenciesNanos = Collections.synchronizedList(new ArrayList<>());
+    private final LongAdder errors = new LongAdder();
+
+    public OperationStats(String name) {
+        this.name = name;
+    }
+
+    public void record(long latencyNanos, boolean success) {
+        latenciesNanos.add(latencyNanos);
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return latenciesNanos.size();
+    }
+
+    public double getErrorRate() {
+        long count = getCount();
+        return count == 0 ? 0.0 : (double) errors.sum() / count;
+    }
+
+    public double percentileMillis(double percentile) {
+        List<Long> sorted;
+        synchronized (latenciesNanos) {
+            sorted = new ArrayList<>(latenciesNanos);
+        }
+        if (sorted.isEmpty()) {
+            return 0.0;
+        }
+        Collections.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, Math.min(index, sorted.size() - 1))) / 1_000_000.0;
+    }
+}
@@ -0,0 +1,207 @@
+package com.santanna.serviceorder.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.infrastructure.messaging.OrderMessageConsumer;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class OrderLoadTest {
+    private static final int SEED_ORDERS = 100;
+
+    @TestConfiguration
+    static class StandIns {
+        @Bean
+        @Primary
+        RedisCacheWriter inMemoryRedisCacheWriter() {
+            return new InMemoryRedisCacheWriter();
+        }
+
+        @Bean
+        @Primary
+        StringRedisTemplate inMemoryStringRedisTemplate() {
+            return new InMemoryStringRedisTemplate();
+        }
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private OrderMessageConsumer orderMessageConsumer;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private LoggerUtils loggerUtils;
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private final AtomicLong orderSequence = new AtomicLong();
+    private final List<Long> knownIds = new CopyOnWriteArrayList<>();
+    private HttpClient httpClient;
+    private InProcessOrderBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+        broker = new InProcessOrderBroker(orderMessageConsumer, settings.listenerConcurrency());
+        for (int i = 0; i < SEED_ORDERS; i++) {
+            createOrder().join();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.close();
+    }
+
+    @Test
+    @DisplayName("Should sustain configured HTTP and queue rates within latency and error thresholds")
+    void sustainsConfiguredThroughputWithinThresholds() throws Exception {
+        var create = new OperationStats("POST /order");
+        var get = new OperationStats("GET /order/{id}");
+        var list = new OperationStats("GET /order");
+        var update = new OperationStats("PUT /order/{id}/status");
+        var publish = new OperationStats("orderQueue publish->processed");
+        var generator = new LoadGenerator();
+        int totalWeight = settings.createWeight() + settings.getWeight() + settings.listWeight() + settings.updateWeight();
+
+        var httpRun = CompletableFuture.supplyAsync(() -> generator.run(settings.httpRate(), settings.duration(),
+                () -> pick(totalWeight, create, get, list, update),
+                stats -> {
+                    if (stats == create) return createOrder();
+                    if (stats == get) return send(HttpRequest.newBuilder(uri("/order/" + randomKnownId())).GET());
+                    if (stats == list) return send(HttpRequest.newBuilder(uri("/order?page=0&size=20")).GET());
+                    return send(HttpRequest.newBuilder(uri("/order/" + randomKnownId() + "/status?orderStatus=DELIVERED"))
+                            .PUT(HttpRequest.BodyPublishers.noBody()));
+                }));
+        var queueRun = CompletableFuture.supplyAsync(() -> generator.run(settings.queueRate(), settings.duration(),
+                () -> publish,
+                stats -> broker.publish(nextRequest()).thenApply(ignored -> true)));
+
+        LoadGenerator.Result httpResult = httpRun.get();
+        LoadGenerator.Result queueResult = queueRun.get();
+
+        List<OperationStats> all = List.of(create, get, list, update, publish);
+        report(all, httpResult, queueResult);
+
+        List<Executable> checks = new ArrayList<>();
+        checks.add(() -> assertTrue(httpResult.throughput() >= settings.httpRate() * settings.minThroughputRatio(),
+                "HTTP throughput " + httpResult.throughput() + " below threshold"));
+        checks.add(() -> assertTrue(queueResult.throughput() >= settings.queueRate() * settings.minThroughputRatio(),
+                "Queue throughput " + queueResult.throughput() + " below threshold"));
+        for (OperationStats stats : all) {
+            if (stats.getCount() == 0) {
+                continue;
+            }
+            checks.add(() -> assertTrue(stats.percentileMillis(0.99) <= settings.maxP99Millis(),
+                    stats.getName() + " p99 " + stats.percentileMillis(0.99) + " ms above threshold"));
+            checks.add(() -> assertTrue(stats.getErrorRate() <= settings.maxErrorRate(),
+                    stats.getName() + " error rate " + stats.getErrorRate() + " above threshold"));
+        }
+        assertAll(checks);
+    }
+
+    private OperationStats pick(int totalWeight, OperationStats create, OperationStats get, OperationStats list, OperationStats update) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        if ((roll -= settings.createWeight()) < 0) return create;
+        if ((roll -= settings.getWeight()) < 0) return get;
+        if (roll - settings.listWeight() < 0) return list;
+        return update;
+    }
+
+    private CompletableFuture<Boolean> createOrder() {
+        try {
+            var body = objectMapper.writeValueAsString(nextRequest());
+            var request = HttpRequest.newBuilder(uri("/order"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .thenApply(response -> {
+                        if (response.statusCode() != 201) {
+                            return false;
+                        }
+                        knownIds.add(readId(response.body()));
+                        return true;
+                    });
+        } catch (Exception ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+
+    private CompletableFuture<Boolean> send(HttpRequest.Builder request) {
+        return httpClient.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding())
+                .thenApply(response -> response.statusCode() / 100 == 2);
+    }
+
+    private OrderRequestDto nextRequest() {
+        return OrderRequestDto.builder()
+                .orderNumber("LOAD-" + orderSequence.incrementAndGet())
+                .productName("Produto Carga")
+                .quantity(ThreadLocalRandom.current().nextInt(1, 10))
+                .unitPrice(new BigDecimal("19.90"))
+                .build();
+    }
+
+    private long randomKnownId() {
+        return knownIds.get(ThreadLocalRandom.current().nextInt(knownIds.size()));
+    }
+
+    private long readId(String body) {
+        try {
+            JsonNode node = objectMapper.readTree(body);
+            return node.get("id").asLong();
+        } catch (Exception ex) {
+            throw new IllegalStateException("Unexpected create response: " + body, ex);
+        }
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private void report(List<OperationStats> all, LoadGenerator.Result httpResult, LoadGenerator.Result queueResult) {
+        loggerUtils.logInfo(OrderLoadTest.class, "Load test ({}s): HTTP {} req/s (target {}), queue {} msg/s (target {})",
+                settings.duration().toSeconds(), String.format("%.1f", httpResult.throughput()), settings.httpRate(),
+                String.format("%.1f", queueResult.throughput()), settings.queueRate());
+        loggerUtils.logInfo(OrderLoadTest.class, String.format("%-32s %10s %10s %10s %10s", "operation", "count", "p50 ms", "p99 ms", "errors"));
+        for (OperationStats stats : all) {
+            loggerUtils.logInfo(OrderLoadTest.class, String.format("%-32s %10d %10.2f %10.2f %9.2f%%", stats.getName(), stats.getCount(),
+                    stats.percentileMillis(0.50), stats.percentileMillis(0.99), stats.getErrorRate() * 100));
+        }
+    }
+}
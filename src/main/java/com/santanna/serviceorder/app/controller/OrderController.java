@@ -1,8 +1,21 @@
 package com.santanna.serviceorder.app.controller;
 
+import com.santanna.serviceorder.domain.OrderExportFormat;
 import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderBatchCreateResultDto;
+import com.santanna.serviceorder.domain.dto.OrderBulkStatusUpdateDto;
+import com.santanna.serviceorder.domain.dto.OrderBulkStatusUpdateResultDto;
+import com.santanna.serviceorder.domain.dto.OrderCursorPageDto;
+import com.santanna.serviceorder.domain.dto.OrderIngestionStatusDto;
 import com.santanna.serviceorder.domain.dto.OrderRequestDto;
 import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.dto.OrderSearchCriteriaDto;
+import com.santanna.serviceorder.domain.dto.OrderSearchResultDto;
+import com.santanna.serviceorder.domain.dto.OrderStatusSummaryDto;
+import com.santanna.serviceorder.domain.service.OrderBatchService;
+import com.santanna.serviceorder.domain.service.OrderExportService;
+import com.santanna.serviceorder.domain.service.OrderIngestionService;
+import com.santanna.serviceorder.domain.service.OrderSearchService;
 import com.santanna.serviceorder.domain.service.OrderService;
 import com.santanna.serviceorder.utils.LoggerUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,9 +24,19 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(name = "Order Controller", description = "Gerenciamento de pedidos")
 @RestController
@@ -21,10 +44,20 @@ import org.springframework.web.bind.annotation.*;
 public class OrderController {
 
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderIngestionService orderIngestionService;
+    private final OrderSearchService orderSearchService;
+    private final OrderBatchService orderBatchService;
     private final LoggerUtils loggerUtils;
 
-    public OrderController(OrderService orderService, LoggerUtils loggerUtils) {
+    public OrderController(OrderService orderService, OrderExportService orderExportService,
+                           OrderIngestionService orderIngestionService, OrderSearchService orderSearchService,
+                           OrderBatchService orderBatchService, LoggerUtils loggerUtils) {
         this.orderService = orderService;
+        this.orderExportService = orderExportService;
+        this.orderIngestionService = orderIngestionService;
+        this.orderSearchService = orderSearchService;
+        this.orderBatchService = orderBatchService;
         this.loggerUtils = loggerUtils;
     }
 
@@ -42,9 +75,49 @@ public class OrderController {
         return ResponseEntity.status(201).body(createdOrder);
     }
 
+    @Operation(summary = "Criar pedidos em lote", description = "Valida e cria vários pedidos em uma única requisição, descartando números repetidos no lote ou já existentes, e retorna o resultado de cada item")
+    @ApiResponse(responseCode = "200", description = "Resultado por item: criado, duplicado ou inválido")
+    @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o limite permitido")
+    @PostMapping("/batch")
+    public ResponseEntity<OrderBatchCreateResultDto> createOrderBatch(@RequestBody List<OrderRequestDto> orders) {
+        loggerUtils.logInfo(OrderController.class, "Received request to create an order batch. Size: {}", orders.size());
+
+        OrderBatchCreateResultDto result = orderBatchService.createOrders(orders);
+
+        loggerUtils.logInfo(OrderController.class, "Order batch processed. Created: {}, Duplicates: {}, Invalid: {}",
+                result.getCreated(), result.getDuplicates(), result.getInvalid());
+        return ResponseEntity.ok(result);
+    }
+
+    @Operation(summary = "Enfileirar um novo pedido", description = "Valida o pedido e o publica na fila de processamento, retornando um identificador de acompanhamento")
+    @ApiResponse(responseCode = "202", description = "Pedido aceito para processamento")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos")
+    @ApiResponse(responseCode = "500", description = "Pedido não pôde ser enfileirado")
+    @PostMapping("/ingest")
+    public CompletableFuture<ResponseEntity<OrderIngestionStatusDto>> ingestOrder(@Valid @RequestBody OrderRequestDto orderRequestDto) {
+        loggerUtils.logInfo(OrderController.class, "Received request to ingest an order: {}", orderRequestDto.getOrderNumber());
+
+        var statusLocation = ServletUriComponentsBuilder.fromCurrentRequest().path("/{trackingId}");
+        return orderIngestionService.ingestOrder(orderRequestDto)
+                .thenApply(status -> ResponseEntity.accepted()
+                        .location(statusLocation.buildAndExpand(status.getTrackingId()).toUri())
+                        .body(status));
+    }
+
+    @Operation(summary = "Consultar pedido enfileirado", description = "Retorna a situação de um pedido enviado para processamento assíncrono")
+    @ApiResponse(responseCode = "200", description = "Situação do processamento")
+    @ApiResponse(responseCode = "404", description = "Identificador de acompanhamento não encontrado")
+    @GetMapping("/ingest/{trackingId}")
+    public ResponseEntity<OrderIngestionStatusDto> getIngestionStatus(@PathVariable String trackingId) {
+        loggerUtils.logInfo(OrderController.class, "Received request to fetch ingestion status. Tracking ID: {}", trackingId);
+
+        return ResponseEntity.ok(orderIngestionService.getIngestionStatus(trackingId));
+    }
+
     @Operation(summary = "Atualizar status do pedido", description = "Atualiza o status de um pedido existente")
     @ApiResponse(responseCode = "200", description = "Status atualizado com sucesso")
     @ApiResponse(responseCode = "404", description = "Pedido não encontrado")
+    @ApiResponse(responseCode = "409", description = "Pedido alterado concorrentemente, tente novamente")
     @PutMapping("/{id}/status")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<OrderResponseDto> updateStatus(@Valid @PathVariable Long id, @RequestParam OrderStatus orderStatus) {
@@ -52,11 +125,27 @@ public class OrderController {
         OrderResponseDto updatedOrder = orderService.updateOrderStatus(id, orderStatus);
 
         loggerUtils.logInfo(OrderController.class, "Order status updated successfully. ID: {}, New Status: {}", id, updatedOrder.getStatus());
-        return ResponseEntity.ok(updatedOrder);
+        return ResponseEntity.ok()
+                .eTag(OrderETags.of(updatedOrder))
+                .body(updatedOrder);
+    }
+
+    @Operation(summary = "Atualizar status de pedidos em lote", description = "Atualiza o status de vários pedidos por lista de IDs ou por status atual")
+    @ApiResponse(responseCode = "200", description = "Resultado da atualização, com os IDs não encontrados")
+    @ApiResponse(responseCode = "400", description = "Dados inválidos")
+    @PutMapping("/status")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<OrderBulkStatusUpdateResultDto> updateStatuses(@Valid @RequestBody OrderBulkStatusUpdateDto request) {
+        loggerUtils.logInfo(OrderController.class, "Received request to bulk update order status. New Status: {}", request.getTargetStatus());
+        OrderBulkStatusUpdateResultDto result = orderService.updateOrderStatuses(request);
+
+        loggerUtils.logInfo(OrderController.class, "Bulk order status update completed. Updated: {}, Not found: {}", result.getUpdated(), result.getNotFoundIds().size());
+        return ResponseEntity.ok(result);
     }
 
     @Operation(summary = "Listar pedidos", description = "Lista todos os pedidos com suporte a paginação")
     @ApiResponse(responseCode = "200", description = "Lista de pedidos")
+    @ApiResponse(responseCode = "304", description = "Página não modificada desde a versão informada em If-None-Match")
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<Page<OrderResponseDto>> getAllOrders(Pageable pageable) {
@@ -65,11 +154,93 @@ public class OrderController {
         Page<OrderResponseDto> orders = orderService.getAllOrders(pageable);
         loggerUtils.logInfo(OrderController.class, "Successfully retrieved {} orders", orders.getTotalElements());
 
-        return ResponseEntity.ok(orders);
+        return ResponseEntity.ok()
+                .eTag(OrderETags.ofPage(orders.getContent(), orders.getNumber(), orders.getSize(), orders.getTotalElements(), orders.getSort()))
+                .body(orders);
+    }
+
+    @Operation(summary = "Listar pedidos por cursor", description = "Lista pedidos do mais recente para o mais antigo usando paginação por cursor, sem contagem total")
+    @ApiResponse(responseCode = "200", description = "Página de pedidos e cursor da próxima página")
+    @ApiResponse(responseCode = "304", description = "Página não modificada desde a versão informada em If-None-Match")
+    @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválido")
+    @GetMapping("/cursor")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<OrderCursorPageDto> getOrdersByCursor(@RequestParam(required = false) String cursor,
+                                                                @RequestParam(defaultValue = "20") int size) {
+        loggerUtils.logInfo(OrderController.class, "Received request to retrieve orders by cursor. Size: {}", size);
+
+        OrderCursorPageDto orders = orderService.getOrdersAfter(cursor, size);
+        loggerUtils.logInfo(OrderController.class, "Successfully retrieved {} orders by cursor", orders.getContent().size());
+
+        return ResponseEntity.ok()
+                .eTag(OrderETags.ofPage(orders.getContent(), cursor, size, orders.getNextCursor()))
+                .body(orders);
+    }
+
+    @Operation(summary = "Pesquisar pedidos", description = "Filtra pedidos por status, intervalo de criação, prefixo do nome do produto e faixa de valor total")
+    @ApiResponse(responseCode = "200", description = "Página de pedidos encontrados")
+    @ApiResponse(responseCode = "304", description = "Página não modificada desde a versão informada em If-None-Match")
+    @ApiResponse(responseCode = "400", description = "Filtros ou paginação inválidos")
+    @GetMapping("/search")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<OrderSearchResultDto> searchOrders(@RequestParam(required = false) OrderStatus status,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+                                                             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+                                                             @RequestParam(required = false) String productName,
+                                                             @RequestParam(required = false) BigDecimal minTotalValue,
+                                                             @RequestParam(required = false) BigDecimal maxTotalValue,
+                                                             @RequestParam(defaultValue = "0") int page,
+                                                             @RequestParam(defaultValue = "20") int size) {
+        loggerUtils.logInfo(OrderController.class, "Received request to search orders. Status: {}, Product: {}", status, productName);
+
+        var criteria = OrderSearchCriteriaDto.builder()
+                .status(status)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .productNamePrefix(productName)
+                .minTotalValue(minTotalValue)
+                .maxTotalValue(maxTotalValue)
+                .build();
+        OrderSearchResultDto result = orderSearchService.search(criteria, page, size);
+        loggerUtils.logInfo(OrderController.class, "Order search returned {} orders", result.getContent().size());
+
+        return ResponseEntity.ok()
+                .eTag(OrderETags.ofPage(result.getContent(), criteria, result.getPage(), result.getSize(), result.isHasNext()))
+                .body(result);
+    }
+
+    @Operation(summary = "Resumo por status", description = "Retorna a quantidade de pedidos em cada status a partir de contadores mantidos incrementalmente")
+    @ApiResponse(responseCode = "200", description = "Quantidade de pedidos por status")
+    @GetMapping("/summary")
+    @ResponseStatus(HttpStatus.OK)
+    public ResponseEntity<OrderStatusSummaryDto> getStatusSummary() {
+        loggerUtils.logInfo(OrderController.class, "Received request to retrieve order status summary");
+
+        OrderStatusSummaryDto summary = orderService.getStatusSummary();
+        loggerUtils.logInfo(OrderController.class, "Order status summary retrieved. Total: {}", summary.getTotal());
+
+        return ResponseEntity.ok(summary);
+    }
+
+    @Operation(summary = "Exportar pedidos", description = "Exporta pedidos em NDJSON ou CSV via streaming, com filtro opcional por status e data de criação")
+    @ApiResponse(responseCode = "200", description = "Arquivo de exportação")
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(@RequestParam(defaultValue = "NDJSON") OrderExportFormat format,
+                                                              @RequestParam(required = false) OrderStatus status,
+                                                              @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAfter) {
+        loggerUtils.logInfo(OrderController.class, "Received request to export orders. Format: {}, Status: {}, Created after: {}", format, status, createdAfter);
+
+        StreamingResponseBody body = outputStream -> orderExportService.exportOrders(format, status, createdAfter, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=orders." + format.getExtension())
+                .body(body);
     }
 
     @Operation(summary = "Buscar um pedido por ID", description = "Retorna os detalhes de um pedido específico")
     @ApiResponse(responseCode = "200", description = "Pedido encontrado")
+    @ApiResponse(responseCode = "304", description = "Pedido não modificado desde a versão informada em If-None-Match")
     @ApiResponse(responseCode = "404", description = "Pedido não encontrado")
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
@@ -79,7 +250,9 @@ public class OrderController {
         OrderResponseDto order = orderService.getOrderById(id);
 
         loggerUtils.logInfo(OrderController.class, "Order retrieved successfully. ID: {}", order.getId());
-        return ResponseEntity.ok(order);
+        return ResponseEntity.ok()
+                .eTag(OrderETags.of(order))
+                .body(order);
     }
 
     @Operation(summary = "Excluir um pedido", description = "Remove um pedido pelo ID")
@@ -0,0 +1,35 @@
+package com.santanna.serviceorder.app.controller;
+
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+
+final class OrderETags {
+
+    private OrderETags() {
+    }
+
+    static String of(OrderResponseDto order) {
+        return "W/\"" + order.getId() + "-" + Objects.requireNonNullElse(order.getVersion(), 0L) + "\"";
+    }
+
+    static String ofPage(Collection<OrderResponseDto> orders, Object... pageMetadata) {
+        var checksum = new CRC32C();
+        for (var order : orders) {
+            update(checksum, order.getId());
+            update(checksum, order.getVersion());
+        }
+        for (var value : pageMetadata) {
+            update(checksum, value);
+        }
+        return "W/\"" + orders.size() + "-" + Long.toHexString(checksum.getValue()) + "\"";
+    }
+
+    private static void update(CRC32C checksum, Object value) {
+        checksum.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+        checksum.update(0);
+    }
+}
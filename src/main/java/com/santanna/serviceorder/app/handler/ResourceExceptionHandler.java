@@ -1,6 +1,7 @@
 package com.santanna.serviceorder.app.handler;
 
 import com.santanna.serviceorder.app.handler.model.BadRequestException;
+import com.santanna.serviceorder.app.handler.model.ConflictException;
 import com.santanna.serviceorder.app.handler.model.NotFoundException;
 import com.santanna.serviceorder.app.handler.model.StandardError;
 import com.santanna.serviceorder.app.handler.model.InternalServerErrorException;
@@ -53,6 +54,19 @@ public class ResourceExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<StandardError> handleConflictException(ConflictException ex, HttpServletRequest request) {
+        loggerUtils.logWarn(ResourceExceptionHandler.class, "Conflict: {} - Path: {}", ex.getMessage(), request.getRequestURI());
+
+        StandardError error = new StandardError(
+                LocalDateTime.now(),
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage() != null ? ex.getMessage() : "Conflito de atualização",
+                request.getRequestURI()
+        );
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     @ExceptionHandler(InternalServerErrorException.class)
     public ResponseEntity<StandardError> handleInternalServerErrorException(InternalServerErrorException ex, HttpServletRequest request) {
         loggerUtils.logError(ResourceExceptionHandler.class, "Internal server error: {} - Path: {}", ex, request.getRequestURI());
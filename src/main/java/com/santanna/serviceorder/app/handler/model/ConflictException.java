@@ -0,0 +1,8 @@
+package com.santanna.serviceorder.app.handler.model;
+
+public class ConflictException extends RuntimeException {
+
+        public ConflictException(String message) {
+            super(message);
+        }
+}
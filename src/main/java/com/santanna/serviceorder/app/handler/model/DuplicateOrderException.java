@@ -0,0 +1,8 @@
+package com.santanna.serviceorder.app.handler.model;
+
+public class DuplicateOrderException extends BadRequestException {
+
+        public DuplicateOrderException(String message) {
+            super(message);
+        }
+}
@@ -0,0 +1,7 @@
+package com.santanna.serviceorder.domain;
+
+public enum OrderBatchItemStatus {
+    CREATED,
+    DUPLICATE,
+    INVALID
+}
@@ -0,0 +1,18 @@
+package com.santanna.serviceorder.domain;
+
+public enum OrderEventType {
+    ORDER_CREATED("order.created"),
+    ORDER_STATUS_UPDATED("order.status.updated"),
+    ORDERS_STATUS_UPDATED("order.status.bulk-updated"),
+    ORDER_DELETED("order.deleted");
+
+    private final String routingKey;
+
+    OrderEventType(String routingKey) {
+        this.routingKey = routingKey;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+}
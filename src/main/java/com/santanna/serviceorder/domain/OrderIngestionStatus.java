@@ -0,0 +1,5 @@
+package com.santanna.serviceorder.domain;
+
+public enum OrderIngestionStatus {
+    ACCEPTED, CREATED, DUPLICATE, REJECTED
+}
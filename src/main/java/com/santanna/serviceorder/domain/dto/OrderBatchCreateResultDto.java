@@ -0,0 +1,19 @@
+package com.santanna.serviceorder.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBatchCreateResultDto {
+    private int created;
+    private int duplicates;
+    private int invalid;
+    private List<OrderBatchItemResultDto> results;
+}
@@ -0,0 +1,19 @@
+package com.santanna.serviceorder.domain.dto;
+
+import com.santanna.serviceorder.domain.OrderBatchItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBatchItemResultDto {
+    private int index;
+    private String orderNumber;
+    private OrderBatchItemStatus status;
+    private OrderResponseDto order;
+    private String message;
+}
@@ -0,0 +1,17 @@
+package com.santanna.serviceorder.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBatchResultDto {
+    private List<OrderResponseDto> created;
+    private List<String> duplicates;
+}
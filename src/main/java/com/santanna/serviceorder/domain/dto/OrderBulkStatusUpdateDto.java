@@ -0,0 +1,29 @@
+package com.santanna.serviceorder.domain.dto;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBulkStatusUpdateDto {
+    @Schema(description = "IDs dos pedidos a atualizar", example = "[1, 2, 3]")
+    @Size(max = 10000, message = "No máximo 10000 IDs por requisição.")
+    private List<Long> ids;
+
+    @Schema(description = "Filtro: atualiza todos os pedidos com este status quando nenhum ID é informado", example = "PROCESSED")
+    private OrderStatus currentStatus;
+
+    @Schema(description = "Novo status dos pedidos", example = "DELIVERED")
+    @NotNull(message = "O novo status é obrigatório.")
+    private OrderStatus targetStatus;
+}
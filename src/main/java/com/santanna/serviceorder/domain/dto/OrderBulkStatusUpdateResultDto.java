@@ -0,0 +1,19 @@
+package com.santanna.serviceorder.domain.dto;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderBulkStatusUpdateResultDto {
+    private OrderStatus status;
+    private long updated;
+    private List<Long> notFoundIds;
+}
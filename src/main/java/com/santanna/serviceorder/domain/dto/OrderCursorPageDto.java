@@ -0,0 +1,20 @@
+package com.santanna.serviceorder.domain.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderCursorPageDto {
+    private List<OrderResponseDto> content;
+
+    @Schema(description = "Token opaco para buscar a próxima página; nulo quando não há mais pedidos")
+    private String nextCursor;
+}
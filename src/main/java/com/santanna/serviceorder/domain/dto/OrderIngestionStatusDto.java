@@ -0,0 +1,21 @@
+package com.santanna.serviceorder.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.santanna.serviceorder.domain.OrderIngestionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class OrderIngestionStatusDto {
+    private String trackingId;
+    private String orderNumber;
+    private OrderIngestionStatus status;
+    private Long orderId;
+    private String reason;
+}
@@ -23,4 +23,5 @@ public class OrderResponseDto {
     private OrderStatus status;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
     private LocalDateTime createdAt;
+    private Long version;
 }
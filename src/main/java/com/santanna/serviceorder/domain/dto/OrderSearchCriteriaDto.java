@@ -0,0 +1,23 @@
+package com.santanna.serviceorder.domain.dto;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderSearchCriteriaDto {
+    private OrderStatus status;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private String productNamePrefix;
+    private BigDecimal minTotalValue;
+    private BigDecimal maxTotalValue;
+}
@@ -0,0 +1,19 @@
+package com.santanna.serviceorder.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderSearchResultDto {
+    private List<OrderResponseDto> content;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
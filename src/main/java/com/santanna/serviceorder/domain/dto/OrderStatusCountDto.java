@@ -0,0 +1,16 @@
+package com.santanna.serviceorder.domain.dto;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderStatusCountDto {
+    private OrderStatus status;
+    private Long count;
+}
@@ -0,0 +1,39 @@
+package com.santanna.serviceorder.domain.model;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "orders_archive", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_archived_order_number", columnNames = "orderNumber")
+})
+public class ArchivedOrder {
+    @Id
+    private Long id;
+
+    private String orderNumber;
+
+    private String productName;
+
+    private Integer quantity;
+
+    private BigDecimal totalValue;
+
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    private LocalDateTime createdAt;
+
+    private Long version;
+
+    private LocalDateTime archivedAt;
+}
@@ -13,9 +13,14 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "orders",indexes = {
-        @Index(name = "idx_order_number", columnList = "orderNumber"),
-        @Index(name = "idx_order_status", columnList = "orderStatus")
+@Table(name = "orders", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_order_number", columnNames = "orderNumber")
+}, indexes = {
+        @Index(name = "idx_order_status", columnList = "orderStatus"),
+        @Index(name = "idx_order_created_at_id", columnList = "createdAt, id"),
+        @Index(name = "idx_order_status_created_at", columnList = "orderStatus, createdAt"),
+        @Index(name = "idx_order_status_total_value", columnList = "orderStatus, totalValue"),
+        @Index(name = "idx_order_product_name", columnList = "productName")
 })
 public class Order {
     @Id
@@ -34,4 +39,7 @@ public class Order {
     private OrderStatus orderStatus;
 
     private LocalDateTime createdAt;
+
+    @Version
+    private Long version;
 }
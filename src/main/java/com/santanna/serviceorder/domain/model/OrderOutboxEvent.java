@@ -0,0 +1,34 @@
+package com.santanna.serviceorder.domain.model;
+
+import com.santanna.serviceorder.domain.OrderEventType;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(name = "order_outbox", indexes = {
+        @Index(name = "idx_outbox_published_at_id", columnList = "publishedAt, id")
+})
+public class OrderOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long orderId;
+
+    @Enumerated(EnumType.STRING)
+    private OrderEventType eventType;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String payload;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime publishedAt;
+}
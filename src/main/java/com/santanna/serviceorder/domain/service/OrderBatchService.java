@@ -0,0 +1,129 @@
+package com.santanna.serviceorder.domain.service;
+
+import com.santanna.serviceorder.app.handler.model.BadRequestException;
+import com.santanna.serviceorder.domain.OrderBatchItemStatus;
+import com.santanna.serviceorder.domain.dto.OrderBatchCreateResultDto;
+import com.santanna.serviceorder.domain.dto.OrderBatchItemResultDto;
+import com.santanna.serviceorder.domain.dto.OrderBatchResultDto;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+@Service
+@Timed(value = "order.batch.create", description = "Bulk order creation latency")
+public class OrderBatchService {
+    private final OrderService orderService;
+    private final Validator validator;
+    private final OrderMetrics orderMetrics;
+    private final LoggerUtils loggerUtils;
+    private final int maxBatchSize;
+
+    public OrderBatchService(OrderService orderService, Validator validator, OrderMetrics orderMetrics, LoggerUtils loggerUtils,
+                             @Value("${order.batch.max-size:1000}") int maxBatchSize) {
+        this.orderService = orderService;
+        this.validator = validator;
+        this.orderMetrics = orderMetrics;
+        this.loggerUtils = loggerUtils;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    public OrderBatchCreateResultDto createOrders(List<OrderRequestDto> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one order");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new BadRequestException("Batch must not contain more than " + maxBatchSize + " orders");
+        }
+        loggerUtils.logInfo(OrderBatchService.class, "Creating order batch. Size: {}", requests.size());
+
+        OrderBatchItemResultDto[] results = new OrderBatchItemResultDto[requests.size()];
+        List<OrderRequestDto> validOrders = new ArrayList<>();
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            OrderRequestDto request = requests.get(i);
+            String violations = violations(request);
+            if (violations != null) {
+                orderMetrics.validationRejected();
+                results[i] = item(i, request, OrderBatchItemStatus.INVALID, null, violations);
+                continue;
+            }
+            validOrders.add(request);
+            validIndexes.add(i);
+        }
+
+        if (!validOrders.isEmpty()) {
+            OrderBatchResultDto batchResult = orderService.createOrders(validOrders);
+            Map<String, Queue<OrderResponseDto>> createdByNumber = new HashMap<>();
+            for (OrderResponseDto created : batchResult.getCreated()) {
+                createdByNumber.computeIfAbsent(created.getOrderNumber(), number -> new ArrayDeque<>()).add(created);
+            }
+            for (int i = 0; i < validOrders.size(); i++) {
+                OrderRequestDto request = validOrders.get(i);
+                Queue<OrderResponseDto> created = createdByNumber.get(request.getOrderNumber());
+                OrderResponseDto order = created != null ? created.poll() : null;
+                results[validIndexes.get(i)] = order != null
+                        ? item(validIndexes.get(i), request, OrderBatchItemStatus.CREATED, order, null)
+                        : item(validIndexes.get(i), request, OrderBatchItemStatus.DUPLICATE, null, "Order already exists");
+            }
+        }
+
+        var result = summarize(List.of(results));
+        loggerUtils.logInfo(OrderBatchService.class, "Order batch finished. Created: {}, Duplicates: {}, Invalid: {}",
+                result.getCreated(), result.getDuplicates(), result.getInvalid());
+        return result;
+    }
+
+    private String violations(OrderRequestDto request) {
+        if (request == null) {
+            return "Order must not be null";
+        }
+        Set<ConstraintViolation<OrderRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        StringBuilder sb = new StringBuilder("Validation errors: ");
+        for (ConstraintViolation<OrderRequestDto> violation : violations) {
+            sb.append(violation.getPropertyPath()).append(" ").append(violation.getMessage()).append("; ");
+        }
+        return sb.toString();
+    }
+
+    private OrderBatchItemResultDto item(int index, OrderRequestDto request, OrderBatchItemStatus status,
+                                         OrderResponseDto order, String message) {
+        return OrderBatchItemResultDto.builder()
+                .index(index)
+                .orderNumber(request != null ? request.getOrderNumber() : null)
+                .status(status)
+                .order(order)
+                .message(message)
+                .build();
+    }
+
+    private OrderBatchCreateResultDto summarize(List<OrderBatchItemResultDto> results) {
+        int created = 0;
+        int duplicates = 0;
+        int invalid = 0;
+        for (OrderBatchItemResultDto result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> created++;
+                case DUPLICATE -> duplicates++;
+                case INVALID -> invalid++;
+            }
+        }
+        return new OrderBatchCreateResultDto(created, duplicates, invalid, results);
+    }
+}
@@ -0,0 +1,105 @@
+package com.santanna.serviceorder.domain.service;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.santanna.serviceorder.domain.OrderExportFormat;
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class OrderExportService {
+    private static final String CSV_HEADER = "id,orderNumber,productName,quantity,totalValue,status,createdAt";
+
+    private final OrderRepository orderRepository;
+    private final OrderService orderService;
+    private final EntityManager entityManager;
+    private final LoggerUtils loggerUtils;
+    private final ObjectWriter jsonWriter = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .build()
+            .writerFor(OrderResponseDto.class);
+
+    public OrderExportService(OrderRepository orderRepository, OrderService orderService, EntityManager entityManager, LoggerUtils loggerUtils) {
+        this.orderRepository = orderRepository;
+        this.orderService = orderService;
+        this.entityManager = entityManager;
+        this.loggerUtils = loggerUtils;
+    }
+
+    @Transactional(readOnly = true)
+    public long exportOrders(OrderExportFormat format, OrderStatus status, LocalDateTime createdAfter, OutputStream outputStream) throws IOException {
+        loggerUtils.logInfo(OrderExportService.class, "Starting {} export. Status: {}, Created after: {}", format, status, createdAfter);
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == OrderExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long exported = 0;
+        try (Stream<Order> orders = orderRepository.streamForExport(status, createdAfter)) {
+            Iterator<Order> iterator = orders.iterator();
+            while (iterator.hasNext()) {
+                Order order = iterator.next();
+                OrderResponseDto dto = orderService.toResponseDto(order);
+                entityManager.detach(order);
+
+                if (format == OrderExportFormat.CSV) {
+                    writeCsvLine(writer, dto);
+                } else {
+                    writer.write(jsonWriter.writeValueAsString(dto));
+                    writer.write('\n');
+                }
+                exported++;
+            }
+        }
+        writer.flush();
+
+        loggerUtils.logInfo(OrderExportService.class, "Finished {} export. Exported orders: {}", format, exported);
+        return exported;
+    }
+
+    private void writeCsvLine(Writer writer, OrderResponseDto dto) throws IOException {
+        writer.write(String.valueOf(dto.getId()));
+        writer.write(',');
+        writer.write(escapeCsv(dto.getOrderNumber()));
+        writer.write(',');
+        writer.write(escapeCsv(dto.getProductName()));
+        writer.write(',');
+        writer.write(String.valueOf(dto.getQuantity()));
+        writer.write(',');
+        writer.write(dto.getTotalValue() != null ? dto.getTotalValue().toPlainString() : "");
+        writer.write(',');
+        writer.write(dto.getStatus() != null ? dto.getStatus().name() : "");
+        writer.write(',');
+        writer.write(dto.getCreatedAt() != null ? dto.getCreatedAt().toString() : "");
+        writer.write('\n');
+    }
+
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
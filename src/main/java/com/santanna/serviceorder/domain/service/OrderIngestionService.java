@@ -0,0 +1,60 @@
+package com.santanna.serviceorder.domain.service;
+
+import com.santanna.serviceorder.app.handler.model.NotFoundException;
+import com.santanna.serviceorder.domain.OrderIngestionStatus;
+import com.santanna.serviceorder.domain.dto.OrderIngestionStatusDto;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.infrastructure.messaging.OrderIngestionPublisher;
+import com.santanna.serviceorder.infrastructure.messaging.OrderIngestionTracker;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Service
+public class OrderIngestionService {
+    private final OrderIngestionPublisher orderIngestionPublisher;
+    private final OrderIngestionTracker orderIngestionTracker;
+    private final LoggerUtils loggerUtils;
+
+    public OrderIngestionService(OrderIngestionPublisher orderIngestionPublisher, OrderIngestionTracker orderIngestionTracker,
+                                 LoggerUtils loggerUtils) {
+        this.orderIngestionPublisher = orderIngestionPublisher;
+        this.orderIngestionTracker = orderIngestionTracker;
+        this.loggerUtils = loggerUtils;
+    }
+
+    public CompletableFuture<OrderIngestionStatusDto> ingestOrder(OrderRequestDto orderRequestDto) {
+        String trackingId = UUID.randomUUID().toString();
+        loggerUtils.logInfo(OrderIngestionService.class, "Enqueuing order {} with tracking ID {}", orderRequestDto.getOrderNumber(), trackingId);
+
+        orderIngestionTracker.accepted(trackingId, orderRequestDto.getOrderNumber());
+        CompletableFuture<Void> published;
+        try {
+            published = orderIngestionPublisher.publish(orderRequestDto, trackingId);
+        } catch (RuntimeException ex) {
+            orderIngestionTracker.notEnqueued(trackingId, ex.getMessage());
+            throw ex;
+        }
+        return published
+                .whenComplete((ignored, ex) -> {
+                    if (ex != null) {
+                        orderIngestionTracker.notEnqueued(trackingId, ex.getMessage());
+                    }
+                })
+                .thenApply(ignored -> OrderIngestionStatusDto.builder()
+                        .trackingId(trackingId)
+                        .orderNumber(orderRequestDto.getOrderNumber())
+                        .status(OrderIngestionStatus.ACCEPTED)
+                        .build());
+    }
+
+    public OrderIngestionStatusDto getIngestionStatus(String trackingId) {
+        return orderIngestionTracker.find(trackingId)
+                .orElseThrow(() -> {
+                    loggerUtils.logWarn(OrderIngestionService.class, "Ingestion tracking ID {} not found", trackingId);
+                    return new NotFoundException("Ingestion not found with tracking ID: " + trackingId);
+                });
+    }
+}
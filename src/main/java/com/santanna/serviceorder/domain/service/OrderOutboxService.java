@@ -0,0 +1,98 @@
+package com.santanna.serviceorder.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.serviceorder.app.handler.model.InternalServerErrorException;
+import com.santanna.serviceorder.domain.OrderEventType;
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderEventDto;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.model.OrderOutboxEvent;
+import com.santanna.serviceorder.infrastructure.repository.OrderOutboxRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+public class OrderOutboxService {
+    private final LoggerUtils loggerUtils;
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ObjectMapper objectMapper;
+
+    public OrderOutboxService(LoggerUtils loggerUtils, OrderOutboxRepository orderOutboxRepository, ObjectMapper objectMapper) {
+        this.loggerUtils = loggerUtils;
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void orderCreated(Order order) {
+        orderOutboxRepository.save(toOutboxEvent(OrderEventType.ORDER_CREATED, order.getId(), snapshot(OrderEventType.ORDER_CREATED, order)));
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void ordersCreated(List<Order> orders) {
+        orderOutboxRepository.insertAll(orders.stream()
+                .map(order -> toOutboxEvent(OrderEventType.ORDER_CREATED, order.getId(), snapshot(OrderEventType.ORDER_CREATED, order)))
+                .toList());
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void orderStatusUpdated(Order order) {
+        orderOutboxRepository.save(toOutboxEvent(OrderEventType.ORDER_STATUS_UPDATED, order.getId(), snapshot(OrderEventType.ORDER_STATUS_UPDATED, order)));
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void ordersStatusUpdated(Collection<Long> ids, OrderStatus orderStatus) {
+        var event = OrderEventDto.builder()
+                .type(OrderEventType.ORDERS_STATUS_UPDATED)
+                .orderIds(List.copyOf(ids))
+                .status(orderStatus)
+                .occurredAt(LocalDateTime.now())
+                .build();
+        orderOutboxRepository.save(toOutboxEvent(OrderEventType.ORDERS_STATUS_UPDATED, null, event));
+    }
+
+    @Transactional(Transactional.TxType.MANDATORY)
+    public void orderDeleted(Order order) {
+        var event = OrderEventDto.builder()
+                .type(OrderEventType.ORDER_DELETED)
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .occurredAt(LocalDateTime.now())
+                .build();
+        orderOutboxRepository.save(toOutboxEvent(OrderEventType.ORDER_DELETED, order.getId(), event));
+    }
+
+    private OrderEventDto snapshot(OrderEventType eventType, Order order) {
+        return OrderEventDto.builder()
+                .type(eventType)
+                .orderId(order.getId())
+                .orderNumber(order.getOrderNumber())
+                .productName(order.getProductName())
+                .quantity(order.getQuantity())
+                .totalValue(order.getTotalValue())
+                .status(order.getOrderStatus())
+                .createdAt(order.getCreatedAt())
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private OrderOutboxEvent toOutboxEvent(OrderEventType eventType, Long orderId, OrderEventDto event) {
+        try {
+            return OrderOutboxEvent.builder()
+                    .orderId(orderId)
+                    .eventType(eventType)
+                    .payload(objectMapper.writeValueAsString(event))
+                    .createdAt(event.getOccurredAt())
+                    .build();
+        } catch (JsonProcessingException ex) {
+            loggerUtils.logError(OrderOutboxService.class, "Failed to serialize {} event for order {}", ex, eventType, orderId);
+            throw new InternalServerErrorException("Failed to serialize order event.");
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.santanna.serviceorder.domain.service;
+
+import com.santanna.serviceorder.app.handler.model.BadRequestException;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.dto.OrderSearchCriteriaDto;
+import com.santanna.serviceorder.domain.dto.OrderSearchResultDto;
+import com.santanna.serviceorder.infrastructure.cache.OrderSearchCache;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Timed(value = "order.search", description = "Order search latency")
+public class OrderSearchService {
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
+    private final OrderRepository orderRepository;
+    private final OrderSearchCache orderSearchCache;
+    private final LoggerUtils loggerUtils;
+
+    public OrderSearchService(OrderRepository orderRepository, OrderSearchCache orderSearchCache, LoggerUtils loggerUtils) {
+        this.orderRepository = orderRepository;
+        this.orderSearchCache = orderSearchCache;
+        this.loggerUtils = loggerUtils;
+    }
+
+    public OrderSearchResultDto search(OrderSearchCriteriaDto criteria, int page, int size) {
+        loggerUtils.logInfo(OrderSearchService.class, "Searching orders. Criteria: {}, Page: {}, Size: {}", criteria, page, size);
+        validate(criteria, page, size);
+
+        return orderSearchCache.get(criteria, page, size, () -> {
+            loggerUtils.logDebug(OrderSearchService.class, "Search cache miss. Criteria: {}", criteria);
+            List<OrderResponseDto> orders = orderRepository.search(criteria, page * size, size + 1);
+            boolean hasNext = orders.size() > size;
+            List<OrderResponseDto> content = hasNext ? List.copyOf(orders.subList(0, size)) : orders;
+            return new OrderSearchResultDto(content, page, size, hasNext);
+        });
+    }
+
+    private void validate(OrderSearchCriteriaDto criteria, int page, int size) {
+        if (page < 0) {
+            throw new BadRequestException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_SEARCH_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_SEARCH_PAGE_SIZE);
+        }
+        if (criteria.getCreatedFrom() != null && criteria.getCreatedTo() != null
+                && criteria.getCreatedFrom().isAfter(criteria.getCreatedTo())) {
+            throw new BadRequestException("createdFrom must not be after createdTo");
+        }
+        if (criteria.getMinTotalValue() != null && criteria.getMaxTotalValue() != null
+                && criteria.getMinTotalValue().compareTo(criteria.getMaxTotalValue()) > 0) {
+            throw new BadRequestException("minTotalValue must not be greater than maxTotalValue");
+        }
+    }
+}
@@ -2,54 +2,112 @@ package com.santanna.serviceorder.domain.service;
 
 import com.santanna.serviceorder.domain.model.Order;
 import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderBatchResultDto;
+import com.santanna.serviceorder.domain.dto.OrderBulkStatusUpdateDto;
+import com.santanna.serviceorder.domain.dto.OrderBulkStatusUpdateResultDto;
+import com.santanna.serviceorder.domain.dto.OrderCursorPageDto;
 import com.santanna.serviceorder.domain.dto.OrderRequestDto;
 import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.dto.OrderStatusCountDto;
+import com.santanna.serviceorder.domain.dto.OrderStatusSummaryDto;
 import com.santanna.serviceorder.app.handler.model.BadRequestException;
+import com.santanna.serviceorder.app.handler.model.ConflictException;
+import com.santanna.serviceorder.app.handler.model.DuplicateOrderException;
 import com.santanna.serviceorder.app.handler.model.InternalServerErrorException;
 import com.santanna.serviceorder.app.handler.model.NotFoundException;
+import com.santanna.serviceorder.infrastructure.cache.OrderSearchCache;
+import com.santanna.serviceorder.infrastructure.dedup.OrderNumberDeduplicator;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.infrastructure.metrics.OrderStatusCounters;
 import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
 import com.santanna.serviceorder.utils.LoggerUtils;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Service
+@Timed(value = "order.service", description = "OrderService operation latency")
 public class OrderService {
+    private static final String CURSOR_SEPARATOR = "|";
+    private static final int MAX_CURSOR_PAGE_SIZE = 500;
+    private static final int BULK_UPDATE_CHUNK_SIZE = 1000;
+    private static final String ORDERS_CACHE = "orders";
+    private static final String MISSING_ORDERS_CACHE = "orders-missing";
+    private static final String ORDER_NUMBER_CONSTRAINT = "uk_order_number";
+    private static final int MAX_STATUS_UPDATE_ATTEMPTS = 3;
+
     private final LoggerUtils loggerUtils;
     private final OrderRepository orderRepository;
+    private final CacheManager cacheManager;
+    private final OrderMetrics orderMetrics;
+    private final OrderOutboxService orderOutboxService;
+    private final OrderNumberDeduplicator orderNumberDeduplicator;
+    private final OrderStatusCounters orderStatusCounters;
+    private final OrderSearchCache orderSearchCache;
 
-    public OrderService(LoggerUtils loggerUtils, OrderRepository orderRepository) {
+    public OrderService(LoggerUtils loggerUtils, OrderRepository orderRepository, CacheManager cacheManager,
+                        OrderMetrics orderMetrics, OrderOutboxService orderOutboxService,
+                        OrderNumberDeduplicator orderNumberDeduplicator, OrderStatusCounters orderStatusCounters,
+                        OrderSearchCache orderSearchCache) {
         this.loggerUtils = loggerUtils;
         this.orderRepository = orderRepository;
+        this.cacheManager = cacheManager;
+        this.orderMetrics = orderMetrics;
+        this.orderOutboxService = orderOutboxService;
+        this.orderNumberDeduplicator = orderNumberDeduplicator;
+        this.orderStatusCounters = orderStatusCounters;
+        this.orderSearchCache = orderSearchCache;
     }
 
     @Transactional
+    @Caching(
+            put = @CachePut(value = "orders", key = "#result.id"),
+            evict = @CacheEvict(value = "orders-missing", key = "#result.id")
+    )
     public OrderResponseDto createOrder( OrderRequestDto orderRequestDto) {
         loggerUtils.logInfo(OrderService.class, "Starting order creation: {}", orderRequestDto.getOrderNumber());
 
-        boolean numberIsPresent = orderRepository.findByOrderNumber(orderRequestDto.getOrderNumber()).isPresent();
+        boolean numberIsPresent = orderRepository.isArchivedOrderNumber(orderRequestDto.getOrderNumber())
+                || (!orderNumberDeduplicator.isKnownNew(orderRequestDto.getOrderNumber())
+                && orderRepository.findByOrderNumber(orderRequestDto.getOrderNumber()).isPresent());
         if (numberIsPresent) {
             loggerUtils.logWarn(OrderService.class, "Duplicate order detected: {}", orderRequestDto.getOrderNumber());
-            throw new BadRequestException("Order already exists");
+            orderMetrics.duplicate();
+            throw new DuplicateOrderException("Order already exists");
         }
         try {
 
-            var order = Order.builder()
-                    .orderNumber(orderRequestDto.getOrderNumber())
-                    .productName(orderRequestDto.getProductName())
-                    .quantity(orderRequestDto.getQuantity())
-                    .totalValue(orderRequestDto.getUnitPrice()
-                            .multiply(BigDecimal.valueOf(orderRequestDto.getQuantity())))
-                    .orderStatus(OrderStatus.PROCESSED).createdAt(LocalDateTime.now()).build();
+            var order = toEntity(orderRequestDto);
             var savedOrder = orderRepository.save(order);
+            orderNumberDeduplicator.remember(savedOrder.getOrderNumber());
+            orderOutboxService.orderCreated(savedOrder);
+            orderStatusCounters.created(savedOrder.getOrderStatus());
+            orderSearchCache.invalidate(savedOrder.getOrderStatus());
 
             loggerUtils.logInfo(OrderService.class, "Order created successfully. ID: {}", savedOrder.getId());
             return toResponseDto(savedOrder);
@@ -59,6 +117,12 @@ public class OrderService {
             throw new BadRequestException("Validation failed: " + ex.getMessage());
 
         } catch (DataIntegrityViolationException ex) {
+            if (isOrderNumberConflict(ex)) {
+                loggerUtils.logWarn(OrderService.class, "Duplicate order rejected by unique constraint: {}", orderRequestDto.getOrderNumber());
+                orderMetrics.duplicate();
+                orderNumberDeduplicator.remember(orderRequestDto.getOrderNumber());
+                throw new DuplicateOrderException("Order already exists");
+            }
             loggerUtils.logError(OrderService.class, "Database integrity violation while creating order: {}", ex, orderRequestDto);
             throw new BadRequestException("Database integrity violation: " + ex.getMessage());
 
@@ -68,22 +132,89 @@ public class OrderService {
         }
     }
 
-    @Transactional
-    @CacheEvict(value = "orders", key = "#id",  allEntries =true)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public OrderBatchResultDto createOrders(List<OrderRequestDto> orderRequestDtos) {
+        loggerUtils.logInfo(OrderService.class, "Starting batch order creation. Size: {}", orderRequestDtos.size());
+        if (orderRequestDtos.isEmpty()) {
+            return new OrderBatchResultDto(List.of(), List.of());
+        }
+
+        Set<String> orderNumbers = orderRequestDtos.stream()
+                .map(OrderRequestDto::getOrderNumber)
+                .collect(Collectors.toSet());
+        Set<String> existingNumbers = new HashSet<>(orderRepository.findExistingOrderNumbers(orderNumbers));
+        existingNumbers.addAll(orderRepository.findArchivedOrderNumbers(orderNumbers));
+
+        List<Order> orders = new ArrayList<>();
+        List<String> duplicates = new ArrayList<>();
+        for (OrderRequestDto orderRequestDto : orderRequestDtos) {
+            if (!existingNumbers.add(orderRequestDto.getOrderNumber())) {
+                loggerUtils.logWarn(OrderService.class, "Duplicate order detected: {}", orderRequestDto.getOrderNumber());
+                orderMetrics.duplicate();
+                duplicates.add(orderRequestDto.getOrderNumber());
+                continue;
+            }
+            orders.add(toEntity(orderRequestDto));
+        }
+
+        try {
+            List<Order> savedOrders = insertSkippingConcurrentDuplicates(orders, duplicates);
+            savedOrders.forEach(savedOrder -> orderNumberDeduplicator.remember(savedOrder.getOrderNumber()));
+            orderOutboxService.ordersCreated(savedOrders);
+            savedOrders.forEach(savedOrder -> orderStatusCounters.created(savedOrder.getOrderStatus()));
+            orderSearchCache.invalidate(savedOrders.stream().map(Order::getOrderStatus).toList());
+            evictMissing(savedOrders);
+            List<OrderResponseDto> created = savedOrders.stream()
+                    .map(this::toResponseDto)
+                    .toList();
+
+            loggerUtils.logInfo(OrderService.class, "Batch order creation finished. Created: {}, Duplicates: {}", created.size(), duplicates.size());
+            return new OrderBatchResultDto(created, duplicates);
+
+        } catch (DataIntegrityViolationException ex) {
+            loggerUtils.logError(OrderService.class, "Database integrity violation while creating order batch of size {}", ex, orderRequestDtos.size());
+            throw new BadRequestException("Order batch violates a database constraint.");
+
+        } catch (Exception ex) {
+            loggerUtils.logError(OrderService.class, "Unexpected error while creating order batch of size {}", ex, orderRequestDtos.size());
+            throw new InternalServerErrorException("Unexpected error occurred while creating order batch.");
+        }
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @CachePut(value = "orders", key = "#id")
     public OrderResponseDto updateOrderStatus(Long id, OrderStatus orderStatus) {
         loggerUtils.logInfo(OrderService.class, "Updating order status. ID: {}, New Status: {}", id, orderStatus);
 
         try {
-            var order = orderRepository.findById(id).orElseThrow(() -> {
-                loggerUtils.logWarn(OrderService.class, "Order with ID {} not found", id);
-                return new NotFoundException("Order not found");
-            });
-            order.setOrderStatus(orderStatus);
+            for (int attempt = 1; ; attempt++) {
+                var order = orderRepository.findById(id).orElseThrow(() -> {
+                    loggerUtils.logWarn(OrderService.class, "Order with ID {} not found", id);
+                    return new NotFoundException("Order not found");
+                });
+                var previousStatus = order.getOrderStatus();
+
+                if (orderRepository.updateStatusIfVersion(id, orderStatus, order.getVersion()) == 1) {
+                    order.setOrderStatus(orderStatus);
+                    order.setVersion(order.getVersion() + 1);
+                    orderOutboxService.orderStatusUpdated(order);
+                    orderStatusCounters.statusChanged(previousStatus, orderStatus);
+                    orderSearchCache.invalidate(List.of(previousStatus, orderStatus));
+                    loggerUtils.logInfo(OrderService.class, "Order status updated successfully. ID: {}, New Status: {}", id, orderStatus);
+
+                    return toResponseDto(order);
+                }
 
-            var updatedOrder = orderRepository.save(order);
-            loggerUtils.logInfo(OrderService.class, "Order status updated successfully. ID: {}, New Status: {}", id, orderStatus);
+                orderMetrics.optimisticLockConflict();
+                if (attempt >= MAX_STATUS_UPDATE_ATTEMPTS) {
+                    loggerUtils.logWarn(OrderService.class, "Giving up status update after {} concurrent modifications. ID: {}", attempt, id);
+                    throw new ConflictException("Order was modified concurrently, please retry");
+                }
+                loggerUtils.logDebug(OrderService.class, "Order {} changed since it was read, retrying status update", id);
+            }
 
-            return toResponseDto(updatedOrder);
+        } catch (ConflictException ex) {
+            throw ex;
 
         } catch (DataIntegrityViolationException ex) {
             loggerUtils.logError(OrderService.class, "Invalid data for updating order status: {}", ex, id);
@@ -95,42 +226,202 @@ public class OrderService {
         }
     }
 
+    @Transactional
+    public OrderBulkStatusUpdateResultDto updateOrderStatuses(OrderBulkStatusUpdateDto request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        if (!byIds && request.getCurrentStatus() == null) {
+            throw new BadRequestException("Either ids or currentStatus must be informed");
+        }
+        loggerUtils.logInfo(OrderService.class, "Bulk updating order status. New Status: {}", request.getTargetStatus());
+
+        List<Long> notFoundIds = new ArrayList<>();
+        long updated = 0;
+        if (byIds) {
+            List<Long> ids = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+            for (int start = 0; start < ids.size(); start += BULK_UPDATE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(start, Math.min(start + BULK_UPDATE_CHUNK_SIZE, ids.size()));
+                Set<Long> existingIds = new HashSet<>(orderRepository.findExistingIds(chunk));
+                chunk.stream().filter(id -> !existingIds.contains(id)).forEach(notFoundIds::add);
+                updated += updateStatusChunk(existingIds, request.getTargetStatus());
+            }
+        } else {
+            var pageable = PageRequest.of(0, BULK_UPDATE_CHUNK_SIZE);
+            List<Long> chunk = orderRepository.findIdsByStatusAfter(request.getCurrentStatus(), 0L, pageable);
+            while (!chunk.isEmpty()) {
+                updated += updateStatusChunk(chunk, request.getTargetStatus());
+                chunk = orderRepository.findIdsByStatusAfter(request.getCurrentStatus(), chunk.get(chunk.size() - 1), pageable);
+            }
+        }
+
+        loggerUtils.logInfo(OrderService.class, "Bulk order status update finished. Updated: {}, Not found: {}", updated, notFoundIds.size());
+        return new OrderBulkStatusUpdateResultDto(request.getTargetStatus(), updated, notFoundIds);
+    }
+
+    @Transactional(readOnly = true)
     public Page<OrderResponseDto> getAllOrders(Pageable pageable) {
         loggerUtils.logInfo(OrderService.class, "Fetching all orders with pagination");
 
-        Page<OrderResponseDto> orders = orderRepository.findAll(pageable)
-                .map(this::toResponseDto);
+        Page<OrderResponseDto> orders = orderRepository.findAllResponses(pageable);
 
         loggerUtils.logInfo(OrderService.class, "Retrieved {} orders successfully", orders.getTotalElements());
         return orders;
     }
 
-    @Cacheable(value = "orders", key = "#id")
+    @Transactional(readOnly = true)
+    public OrderCursorPageDto getOrdersAfter(String cursor, int size) {
+        loggerUtils.logInfo(OrderService.class, "Fetching orders with keyset pagination. Size: {}", size);
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new BadRequestException("Page size must be between 1 and " + MAX_CURSOR_PAGE_SIZE);
+        }
+
+        var pageable = PageRequest.of(0, size + 1);
+        List<OrderResponseDto> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findFirstKeysetPage(pageable);
+        } else {
+            var position = decodeCursor(cursor);
+            orders = orderRepository.findKeysetPageAfter(position.createdAt(), position.id(), pageable);
+        }
+
+        boolean hasNext = orders.size() > size;
+        List<OrderResponseDto> page = hasNext ? orders.subList(0, size) : orders;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1)) : null;
+
+        loggerUtils.logInfo(OrderService.class, "Retrieved {} orders with keyset pagination", page.size());
+        return new OrderCursorPageDto(page, nextCursor);
+    }
+
+    @Transactional(readOnly = true, noRollbackFor = NotFoundException.class)
+    @Cacheable(value = "orders", key = "#id", sync = true)
     public OrderResponseDto getOrderById(Long id) {
         loggerUtils.logInfo(OrderService.class, "Fetching order by ID: {}", id);
 
-        var order = orderRepository.findById(id)
+        Cache missingOrders = cacheManager.getCache(MISSING_ORDERS_CACHE);
+        if (missingOrders != null && missingOrders.get(id) != null) {
+            loggerUtils.logDebug(OrderService.class, "Order with ID {} is cached as missing", id);
+            throw new NotFoundException("Order not found with ID: " + id);
+        }
+
+        var order = orderRepository.findResponseById(id)
+                .or(() -> orderRepository.findArchivedResponseById(id))
                 .orElseThrow(() -> {
                     loggerUtils.logWarn(OrderService.class, "Order with ID {} not found", id);
+                    if (missingOrders != null) {
+                        missingOrders.put(id, Boolean.TRUE);
+                    }
                     return new NotFoundException("Order not found with ID: " + id);
                 });
 
         loggerUtils.logInfo(OrderService.class, "Order found. ID: {}", id);
-        return toResponseDto(order);
+        return order;
+    }
+
+    public OrderStatusSummaryDto getStatusSummary() {
+        loggerUtils.logInfo(OrderService.class, "Fetching order status summary");
+        return orderStatusCounters.summary();
     }
 
     @Transactional
+    @CacheEvict(value = "orders", key = "#id")
     public void deleteOrder(Long id) {
         loggerUtils.logInfo(OrderService.class, "Deleting order with ID: {}", id);
 
         var order = orderRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Order not found with ID: " + id));
 
+        orderOutboxService.orderDeleted(order);
         orderRepository.delete(order);
+        orderStatusCounters.deleted(order.getOrderStatus());
+        orderSearchCache.invalidate(order.getOrderStatus());
         loggerUtils.logInfo(OrderService.class, "Order with ID {} deleted successfully", id);
     }
 
-    private OrderResponseDto toResponseDto(Order order) {
+    private int updateStatusChunk(Collection<Long> ids, OrderStatus orderStatus) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        var previousCounts = orderRepository.countByStatusForIds(ids);
+        int updated = orderRepository.updateStatusByIds(ids, orderStatus);
+        orderOutboxService.ordersStatusUpdated(ids, orderStatus);
+        orderStatusCounters.statusesChanged(previousCounts, orderStatus);
+        List<OrderStatus> changedStatuses = new ArrayList<>(previousCounts.stream().map(OrderStatusCountDto::getStatus).toList());
+        changedStatuses.add(orderStatus);
+        orderSearchCache.invalidate(changedStatuses);
+        Cache cache = cacheManager.getCache(ORDERS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+        return updated;
+    }
+
+    private List<Order> insertSkippingConcurrentDuplicates(List<Order> orders, List<String> duplicates) {
+        List<Order> pending = orders;
+        while (true) {
+            try {
+                return orderRepository.insertAll(pending);
+            } catch (DuplicateKeyException ex) {
+                Set<String> conflicting = new HashSet<>(orderRepository.findExistingOrderNumbers(
+                        pending.stream().map(Order::getOrderNumber).toList()));
+                if (conflicting.isEmpty()) {
+                    throw ex;
+                }
+                loggerUtils.logWarn(OrderService.class, "Order numbers inserted concurrently, retrying batch without them: {}", conflicting);
+                for (String orderNumber : conflicting) {
+                    orderMetrics.duplicate();
+                    orderNumberDeduplicator.remember(orderNumber);
+                    duplicates.add(orderNumber);
+                }
+                pending = pending.stream()
+                        .filter(order -> !conflicting.contains(order.getOrderNumber()))
+                        .toList();
+            }
+        }
+    }
+
+    private boolean isOrderNumberConflict(DataIntegrityViolationException ex) {
+        String message = String.valueOf(ex.getMostSpecificCause().getMessage()).toLowerCase();
+        return message.contains(ORDER_NUMBER_CONSTRAINT);
+    }
+
+    private void evictMissing(List<Order> orders) {
+        Cache missingOrders = cacheManager.getCache(MISSING_ORDERS_CACHE);
+        if (missingOrders != null) {
+            orders.forEach(order -> missingOrders.evict(order.getId()));
+        }
+    }
+
+    private String encodeCursor(OrderResponseDto order) {
+        String position = order.getCreatedAt() + CURSOR_SEPARATOR + order.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private KeysetPosition decodeCursor(String cursor) {
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.lastIndexOf(CURSOR_SEPARATOR);
+            return new KeysetPosition(
+                    LocalDateTime.parse(position.substring(0, separator)),
+                    Long.parseLong(position.substring(separator + 1)));
+        } catch (RuntimeException ex) {
+            loggerUtils.logWarn(OrderService.class, "Invalid pagination cursor received: {}", cursor);
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    private record KeysetPosition(LocalDateTime createdAt, Long id) {
+    }
+
+    private Order toEntity(OrderRequestDto orderRequestDto) {
+        return Order.builder()
+                .orderNumber(orderRequestDto.getOrderNumber())
+                .productName(orderRequestDto.getProductName())
+                .quantity(orderRequestDto.getQuantity())
+                .totalValue(orderRequestDto.getUnitPrice()
+                        .multiply(BigDecimal.valueOf(orderRequestDto.getQuantity())))
+                .orderStatus(OrderStatus.PROCESSED).createdAt(LocalDateTime.now()).build();
+    }
+
+    OrderResponseDto toResponseDto(Order order) {
         loggerUtils.logDebug(OrderService.class, "Converting Order entity to DTO. ID: {}", order.getId());
         return OrderResponseDto.builder()
                 .id(order.getId())
@@ -140,6 +431,7 @@ public class OrderService {
                 .totalValue(order.getTotalValue())
                 .status(order.getOrderStatus())
                 .createdAt(order.getCreatedAt())
+                .version(order.getVersion())
                 .build();
     }
 }
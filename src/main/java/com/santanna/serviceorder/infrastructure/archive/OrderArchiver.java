@@ -0,0 +1,109 @@
+package com.santanna.serviceorder.infrastructure.archive;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.infrastructure.cache.OrderSearchCache;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.infrastructure.metrics.OrderStatusCounters;
+import com.santanna.serviceorder.infrastructure.repository.ArchivedOrderRepository;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@ConditionalOnProperty(name = "order.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderArchiver {
+    private final OrderRepository orderRepository;
+    private final ArchivedOrderRepository archivedOrderRepository;
+    private final OrderStatusCounters orderStatusCounters;
+    private final OrderSearchCache orderSearchCache;
+    private final OrderMetrics orderMetrics;
+    private final LoggerUtils loggerUtils;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration minimumAge;
+    private final int chunkSize;
+    private final int maxChunksPerRun;
+    private final long pauseBetweenChunksMs;
+
+    public OrderArchiver(OrderRepository orderRepository, ArchivedOrderRepository archivedOrderRepository,
+                         OrderStatusCounters orderStatusCounters, OrderSearchCache orderSearchCache,
+                         OrderMetrics orderMetrics, LoggerUtils loggerUtils, PlatformTransactionManager transactionManager,
+                         @Value("${order.archive.min-age-days:30}") long minimumAgeDays,
+                         @Value("${order.archive.chunk-size:500}") int chunkSize,
+                         @Value("${order.archive.max-chunks-per-run:20}") int maxChunksPerRun,
+                         @Value("${order.archive.pause-between-chunks-ms:200}") long pauseBetweenChunksMs) {
+        this.orderRepository = orderRepository;
+        this.archivedOrderRepository = archivedOrderRepository;
+        this.orderStatusCounters = orderStatusCounters;
+        this.orderSearchCache = orderSearchCache;
+        this.orderMetrics = orderMetrics;
+        this.loggerUtils = loggerUtils;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.minimumAge = Duration.ofDays(minimumAgeDays);
+        this.chunkSize = chunkSize;
+        this.maxChunksPerRun = maxChunksPerRun;
+        this.pauseBetweenChunksMs = pauseBetweenChunksMs;
+    }
+
+    @Scheduled(initialDelayString = "${order.archive.initial-delay-ms:60000}",
+            fixedDelayString = "${order.archive.fixed-delay-ms:600000}", scheduler = "archiveTaskScheduler")
+    public void archiveDeliveredOrders() {
+        LocalDateTime createdBefore = LocalDateTime.now().minus(minimumAge);
+        long archived = 0;
+        for (int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+            Integer moved;
+            try {
+                moved = transactionTemplate.execute(status -> archiveChunk(createdBefore));
+            } catch (Exception ex) {
+                loggerUtils.logError(OrderArchiver.class, "Failed to archive delivered orders created before {}", ex, createdBefore);
+                break;
+            }
+            archived += moved;
+            if (moved < chunkSize || !pause()) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            loggerUtils.logInfo(OrderArchiver.class, "Archived {} delivered orders created before {}", archived, createdBefore);
+        }
+    }
+
+    private Integer archiveChunk(LocalDateTime createdBefore) {
+        List<Long> ids = orderRepository.lockArchivable(OrderStatus.DELIVERED, createdBefore, PageRequest.of(0, chunkSize))
+                .stream()
+                .map(Order::getId)
+                .toList();
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedOrderRepository.copyFromOrders(ids, LocalDateTime.now());
+        orderRepository.deleteAllByIdInBatch(ids);
+        orderStatusCounters.archived(OrderStatus.DELIVERED, ids.size());
+        orderSearchCache.invalidate(OrderStatus.DELIVERED);
+        orderMetrics.archived(ids.size());
+        return ids.size();
+    }
+
+    private boolean pause() {
+        if (pauseBetweenChunksMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseBetweenChunksMs);
+            return true;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
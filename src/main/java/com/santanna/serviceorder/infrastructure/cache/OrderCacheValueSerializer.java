@@ -0,0 +1,179 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+public class OrderCacheValueSerializer implements RedisSerializer<Object> {
+    static final byte BINARY_V1 = 0x01;
+    static final byte BINARY_V2 = 0x02;
+
+    private static final int ID = 1;
+    private static final int ORDER_NUMBER = 1 << 1;
+    private static final int PRODUCT_NAME = 1 << 2;
+    private static final int QUANTITY = 1 << 3;
+    private static final int TOTAL_VALUE = 1 << 4;
+    private static final int STATUS = 1 << 5;
+    private static final int CREATED_AT = 1 << 6;
+    private static final int VERSION = 1 << 7;
+
+    private final RedisSerializer<Object> jsonSerializer;
+    private final boolean writeBinary;
+
+    public OrderCacheValueSerializer(RedisSerializer<Object> jsonSerializer, boolean writeBinary) {
+        this.jsonSerializer = jsonSerializer;
+        this.writeBinary = writeBinary;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (writeBinary && value instanceof OrderResponseDto order) {
+            return encode(order);
+        }
+        return jsonSerializer.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] == BINARY_V1 || bytes[0] == BINARY_V2) {
+            return decode(bytes);
+        }
+        return jsonSerializer.deserialize(bytes);
+    }
+
+    private byte[] encode(OrderResponseDto order) {
+        var buffer = new ByteArrayOutputStream(96);
+        try (var out = new DataOutputStream(buffer)) {
+            out.writeByte(BINARY_V2);
+            out.writeByte(presentFields(order));
+            if (order.getId() != null) {
+                out.writeLong(order.getId());
+            }
+            if (order.getOrderNumber() != null) {
+                out.writeUTF(order.getOrderNumber());
+            }
+            if (order.getProductName() != null) {
+                out.writeUTF(order.getProductName());
+            }
+            if (order.getQuantity() != null) {
+                out.writeInt(order.getQuantity());
+            }
+            if (order.getTotalValue() != null) {
+                byte[] unscaled = order.getTotalValue().unscaledValue().toByteArray();
+                writeVarInt(out, zigZag(order.getTotalValue().scale()));
+                writeVarInt(out, unscaled.length);
+                out.write(unscaled);
+            }
+            if (order.getStatus() != null) {
+                out.writeUTF(order.getStatus().name());
+            }
+            if (order.getCreatedAt() != null) {
+                out.writeLong(order.getCreatedAt().toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(order.getCreatedAt().getNano());
+            }
+            if (order.getVersion() != null) {
+                out.writeLong(order.getVersion());
+            }
+        } catch (IOException ex) {
+            throw new SerializationException("Could not encode order " + order.getId(), ex);
+        }
+        return buffer.toByteArray();
+    }
+
+    private OrderResponseDto decode(byte[] bytes) {
+        boolean v1 = bytes[0] == BINARY_V1;
+        try (var in = new DataInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            int fields = in.readUnsignedByte();
+            var order = new OrderResponseDto();
+            if ((fields & ID) != 0) {
+                order.setId(in.readLong());
+            }
+            if ((fields & ORDER_NUMBER) != 0) {
+                order.setOrderNumber(in.readUTF());
+            }
+            if ((fields & PRODUCT_NAME) != 0) {
+                order.setProductName(in.readUTF());
+            }
+            if ((fields & QUANTITY) != 0) {
+                order.setQuantity(in.readInt());
+            }
+            if ((fields & TOTAL_VALUE) != 0) {
+                int scale = v1 ? in.readByte() : unZigZag(readVarInt(in));
+                int length = v1 ? in.readUnsignedByte() : readVarInt(in);
+                if (length > in.available()) {
+                    throw new IOException("Unscaled value length " + length + " exceeds the remaining " + in.available() + " bytes");
+                }
+                byte[] unscaled = new byte[length];
+                in.readFully(unscaled);
+                order.setTotalValue(new BigDecimal(new BigInteger(unscaled), scale));
+            }
+            if ((fields & STATUS) != 0) {
+                order.setStatus(OrderStatus.valueOf(in.readUTF()));
+            }
+            if ((fields & CREATED_AT) != 0) {
+                order.setCreatedAt(LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC));
+            }
+            if ((fields & VERSION) != 0) {
+                order.setVersion(in.readLong());
+            }
+            return order;
+        } catch (IOException | IllegalArgumentException ex) {
+            throw new SerializationException("Could not decode cached order", ex);
+        }
+    }
+
+    private void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    private int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private int presentFields(OrderResponseDto order) {
+        int fields = 0;
+        if (order.getId() != null) fields |= ID;
+        if (order.getOrderNumber() != null) fields |= ORDER_NUMBER;
+        if (order.getProductName() != null) fields |= PRODUCT_NAME;
+        if (order.getQuantity() != null) fields |= QUANTITY;
+        if (order.getTotalValue() != null) fields |= TOTAL_VALUE;
+        if (order.getStatus() != null) fields |= STATUS;
+        if (order.getCreatedAt() != null) fields |= CREATED_AT;
+        if (order.getVersion() != null) fields |= VERSION;
+        return fields;
+    }
+}
@@ -0,0 +1,97 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderSearchCriteriaDto;
+import com.santanna.serviceorder.domain.dto.OrderSearchResultDto;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Supplier;
+
+@Component
+public class OrderSearchCache {
+    public static final String SEARCH_CACHE = "order-search";
+    private static final String GENERATION_PREFIX = "order:search:generation:";
+    private static final String ANY_STATUS = "ANY";
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager cacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final LoggerUtils loggerUtils;
+
+    public OrderSearchCache(CacheManager cacheManager, StringRedisTemplate redisTemplate, LoggerUtils loggerUtils) {
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.loggerUtils = loggerUtils;
+    }
+
+    public OrderSearchResultDto get(OrderSearchCriteriaDto criteria, int page, int size, Supplier<OrderSearchResultDto> loader) {
+        Cache cache = cacheManager.getCache(SEARCH_CACHE);
+        String generation;
+        try {
+            generation = redisTemplate.opsForValue().get(generationKey(criteria.getStatus()));
+        } catch (Exception ex) {
+            loggerUtils.logWarn(OrderSearchCache.class, "Failed to read search cache generation, bypassing the cache: {}", ex.getMessage());
+            return loader.get();
+        }
+        if (cache == null) {
+            return loader.get();
+        }
+        return cache.get(cacheKey(criteria, page, size, generation), loader::get);
+    }
+
+    public void invalidate(OrderStatus status) {
+        invalidate(EnumSet.of(status));
+    }
+
+    public void invalidate(Collection<OrderStatus> statuses) {
+        if (statuses.isEmpty()) {
+            return;
+        }
+        Set<OrderStatus> changed = EnumSet.copyOf(statuses);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bumpGenerations(changed);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bumpGenerations(changed);
+            }
+        });
+    }
+
+    private void bumpGenerations(Set<OrderStatus> statuses) {
+        try {
+            redisTemplate.opsForValue().increment(generationKey(null));
+            statuses.forEach(status -> redisTemplate.opsForValue().increment(generationKey(status)));
+        } catch (Exception ex) {
+            loggerUtils.logWarn(OrderSearchCache.class, "Failed to invalidate cached searches for statuses {}: {}", statuses, ex.getMessage());
+        }
+    }
+
+    private String generationKey(OrderStatus status) {
+        return GENERATION_PREFIX + (status != null ? status.name() : ANY_STATUS);
+    }
+
+    private String cacheKey(OrderSearchCriteriaDto criteria, int page, int size, String generation) {
+        return String.join(SEPARATOR,
+                String.valueOf(criteria.getStatus()),
+                String.valueOf(criteria.getCreatedFrom()),
+                String.valueOf(criteria.getCreatedTo()),
+                String.valueOf(criteria.getProductNamePrefix()),
+                String.valueOf(criteria.getMinTotalValue()),
+                String.valueOf(criteria.getMaxTotalValue()),
+                String.valueOf(page),
+                String.valueOf(size),
+                String.valueOf(generation));
+    }
+}
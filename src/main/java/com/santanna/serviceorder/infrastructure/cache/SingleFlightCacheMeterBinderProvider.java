@@ -0,0 +1,24 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.data.redis.cache.RedisCache;
+
+public class SingleFlightCacheMeterBinderProvider implements CacheMeterBinderProvider<SingleFlightCache> {
+
+    @Override
+    public MeterBinder getMeterBinder(SingleFlightCache cache, Iterable<Tag> tags) {
+        Cache target = cache.getDelegate();
+        if (target instanceof TransactionAwareCacheDecorator transactionAwareCache) {
+            target = transactionAwareCache.getTargetCache();
+        }
+        if (target instanceof RedisCache redisCache) {
+            return new RedisCacheMetrics(redisCache, tags);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.santanna.serviceorder.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.AbstractTransactionSupportingCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TwoLevelCacheManager extends AbstractTransactionSupportingCacheManager {
+    private static final String SEPARATOR = "|";
+
+    private final CacheManager redisCacheManager;
+    private final StringRedisTemplate redisTemplate;
+    private final String invalidationChannel;
+    private final long localMaximumSize;
+    private final Duration localExpireAfterWrite;
+    private final Map<String, Duration> localExpireAfterWriteByCache;
+    private final MeterRegistry meterRegistry;
+    private final LoggerUtils loggerUtils;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> localCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager,
+                                StringRedisTemplate redisTemplate,
+                                String invalidationChannel,
+                                long localMaximumSize,
+                                Duration localExpireAfterWrite,
+                                Map<String, Duration> localExpireAfterWriteByCache,
+                                MeterRegistry meterRegistry,
+                                LoggerUtils loggerUtils) {
+        this.redisCacheManager = redisCacheManager;
+        this.redisTemplate = redisTemplate;
+        this.invalidationChannel = invalidationChannel;
+        this.localMaximumSize = localMaximumSize;
+        this.localExpireAfterWrite = localExpireAfterWrite;
+        this.localExpireAfterWriteByCache = localExpireAfterWriteByCache;
+        this.meterRegistry = meterRegistry;
+        this.loggerUtils = loggerUtils;
+        setTransactionAware(true);
+    }
+
+    @Override
+    protected Collection<? extends Cache> loadCaches() {
+        return List.of();
+    }
+
+    @Override
+    protected Cache getMissingCache(String name) {
+        return localCaches.computeIfAbsent(name, this::createCache);
+    }
+
+    public void handleInvalidation(String payload) {
+        String[] parts = payload.split("\\" + SEPARATOR, 3);
+        if (parts.length < 2 || instanceId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = localCaches.get(parts[1]);
+        if (cache != null) {
+            loggerUtils.logDebug(TwoLevelCacheManager.class, "Evicting local cache entry. Cache: {}, Key: {}", parts[1], parts.length > 2 ? parts[2] : "*");
+            cache.evictLocal(parts.length > 2 ? parts[2] : null);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            throw new IllegalStateException("No Redis cache configured with name: " + name);
+        }
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumSize(localMaximumSize)
+                .expireAfterWrite(localExpireAfterWriteByCache.getOrDefault(name, localExpireAfterWrite))
+                .build();
+        return new TwoLevelCache(name, localCache, redisCache, this::publishInvalidation, meterRegistry);
+    }
+
+    private void publishInvalidation(String cacheName, String key) {
+        String payload = instanceId + SEPARATOR + cacheName + (key != null ? SEPARATOR + key : "");
+        try {
+            redisTemplate.convertAndSend(invalidationChannel, payload);
+        } catch (Exception ex) {
+            loggerUtils.logError(TwoLevelCacheManager.class, "Failed to publish cache invalidation for cache {}", ex, cacheName);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.santanna.serviceorder.infrastructure.config;
+
+import com.santanna.serviceorder.infrastructure.datasource.ReadWriteRoutingDataSource;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConditionalOnProperty(name = "order.datasource.routing.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+    @Value("${order.datasource.routing.replica-urls:}")
+    private List<String> replicaUrls;
+
+    @Value("${order.datasource.routing.replica-username:${spring.datasource.username:}}")
+    private String replicaUsername;
+
+    @Value("${order.datasource.routing.replica-password:${spring.datasource.password:}}")
+    private String replicaPassword;
+
+    @Value("${order.datasource.routing.replica-pool-size:20}")
+    private int replicaPoolSize;
+
+    @Value("${order.datasource.routing.primary-after-write-ms:1000}")
+    private long primaryAfterWriteMs;
+
+    @Bean
+    public ReadWriteRoutingDataSource routingDataSource(DataSourceProperties dataSourceProperties, Environment environment,
+                                                        MeterRegistry meterRegistry, LoggerUtils loggerUtils) {
+        var metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName(ReadWriteRoutingDataSource.PRIMARY);
+        primary.setMetricsTrackerFactory(metricsTrackerFactory);
+
+        List<DataSource> replicas = new ArrayList<>();
+        for (String replicaUrl : replicaUrls) {
+            if (replicaUrl.isBlank()) {
+                continue;
+            }
+            var replica = new HikariDataSource();
+            primary.copyStateTo(replica);
+            replica.setJdbcUrl(replicaUrl.trim());
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setMinimumIdle(Math.min(primary.getMinimumIdle(), replicaPoolSize));
+            replica.setReadOnly(true);
+            replica.setPoolName("replica-" + replicas.size());
+            replicas.add(replica);
+        }
+
+        loggerUtils.logInfo(DataSourceRoutingConfig.class, "Read/write routing enabled with {} replica(s), primary after write for {} ms",
+                replicas.size(), primaryAfterWriteMs);
+        return new ReadWriteRoutingDataSource(primary, replicas, Duration.ofMillis(primaryAfterWriteMs));
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadWriteRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,21 @@
+package com.santanna.serviceorder.infrastructure.config;
+
+import com.santanna.serviceorder.infrastructure.cache.SingleFlightCacheMeterBinderProvider;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public SingleFlightCacheMeterBinderProvider singleFlightCacheMeterBinderProvider() {
+        return new SingleFlightCacheMeterBinderProvider();
+    }
+}
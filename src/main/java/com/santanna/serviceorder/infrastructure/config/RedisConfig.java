@@ -2,40 +2,135 @@ package com.santanna.serviceorder.infrastructure.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.santanna.serviceorder.infrastructure.cache.OrderCacheValueSerializer;
+import com.santanna.serviceorder.infrastructure.cache.OrderSearchCache;
+import com.santanna.serviceorder.infrastructure.cache.SingleFlightCacheManager;
+import com.santanna.serviceorder.infrastructure.cache.TwoLevelCacheManager;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
 
 @Configuration
 @EnableCaching
 public class RedisConfig {
-    @Bean
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,  ObjectMapper objectMapper) {
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.activateDefaultTyping(
-                objectMapper.getPolymorphicTypeValidator(),
-                ObjectMapper.DefaultTyping.NON_FINAL
-        );
+    @Value("${order.cache.local.enabled:true}")
+    private boolean localCacheEnabled;
+
+    @Value("${order.cache.local.maximum-size:10000}")
+    private long localCacheMaximumSize;
+
+    @Value("${order.cache.local.expire-after-write-seconds:30}")
+    private long localCacheExpireAfterWriteSeconds;
+
+    @Value("${order.cache.negative-ttl-seconds:10}")
+    private long negativeCacheTtlSeconds;
 
+    @Value("${order.search.cache-ttl-seconds:30}")
+    private long searchCacheTtlSeconds;
+
+    @Value("${order.cache.invalidation-channel:orders-cache-invalidation}")
+    private String invalidationChannel;
+
+    @Value("${order.cache.value-format:json}")
+    private String cacheValueFormat;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    @Bean
+    public RedisCacheWriter redisCacheWriter(RedisConnectionFactory redisConnectionFactory) {
+        return RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory);
+    }
 
+    @Bean
+    public CacheManager cacheManager(RedisCacheWriter redisCacheWriter, ObjectMapper objectMapper,
+                                     StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry,
+                                     LoggerUtils loggerUtils) {
         var cacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
                 .serializeValuesWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(
-                                new GenericJackson2JsonRedisSerializer(objectMapper)
+                                new OrderCacheValueSerializer(cacheValueSerializer(objectMapper), "binary".equalsIgnoreCase(cacheValueFormat))
                         )
                 );
-        return RedisCacheManager.builder(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory))
+        var negativeCacheTtl = Duration.ofSeconds(negativeCacheTtlSeconds);
+        var searchCacheTtl = Duration.ofSeconds(searchCacheTtlSeconds);
+        var redisCacheManagerBuilder = RedisCacheManager.builder(redisCacheWriter)
                 .cacheDefaults(cacheConfiguration)
-                .build();
+                .initialCacheNames(Set.of("orders"))
+                .withCacheConfiguration("orders-missing", cacheConfiguration.entryTtl(negativeCacheTtl))
+                .withCacheConfiguration(OrderSearchCache.SEARCH_CACHE, cacheConfiguration.entryTtl(searchCacheTtl))
+                .enableStatistics();
+        if (!localCacheEnabled) {
+            var redisCacheManager = redisCacheManagerBuilder.transactionAware().build();
+            redisCacheManager.afterPropertiesSet();
+            return new SingleFlightCacheManager(redisCacheManager, meterRegistry);
+        }
+
+        var redisCacheManager = redisCacheManagerBuilder.build();
+        redisCacheManager.afterPropertiesSet();
+        var twoLevelCacheManager = new TwoLevelCacheManager(
+                redisCacheManager,
+                stringRedisTemplate,
+                invalidationChannel,
+                localCacheMaximumSize,
+                Duration.ofSeconds(localCacheExpireAfterWriteSeconds),
+                Map.of("orders-missing", negativeCacheTtl, OrderSearchCache.SEARCH_CACHE, searchCacheTtl),
+                meterRegistry,
+                loggerUtils
+        );
+        twoLevelCacheManager.afterPropertiesSet();
+        return new SingleFlightCacheManager(twoLevelCacheManager, meterRegistry);
+    }
+
+    public static GenericJackson2JsonRedisSerializer cacheValueSerializer(ObjectMapper objectMapper) {
+        var cacheObjectMapper = objectMapper.copy();
+        cacheObjectMapper.registerModule(new JavaTimeModule());
+        cacheObjectMapper.activateDefaultTyping(
+                cacheObjectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL
+        );
+        return new GenericJackson2JsonRedisSerializer(cacheObjectMapper);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "order.cache.local.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            CacheManager cacheManager) {
+        var container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        if (virtualThreadsEnabled) {
+            var taskExecutor = new SimpleAsyncTaskExecutor("cache-invalidation-");
+            taskExecutor.setVirtualThreads(true);
+            container.setTaskExecutor(taskExecutor);
+        }
+        if (cacheManager instanceof SingleFlightCacheManager singleFlightCacheManager
+                && singleFlightCacheManager.getDelegate() instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(
+                    (message, pattern) -> twoLevelCacheManager.handleInvalidation(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(invalidationChannel)
+            );
+        }
+        return container;
     }
 }
@@ -0,0 +1,95 @@
+package com.santanna.serviceorder.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+    private static final String REPLICA_PREFIX = "replica-";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final List<String> replicaKeys = new ArrayList<>();
+    private final long primaryAfterWriteNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ThreadLocal<Long> lastWriteAt = new ThreadLocal<>();
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<DataSource> replicas, Duration primaryAfterWrite) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.primaryAfterWriteNanos = primaryAfterWrite.toNanos();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < this.replicas.size(); i++) {
+            String key = REPLICA_PREFIX + i;
+            replicaKeys.add(key);
+            targets.put(key, this.replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new WriteCommitMarker());
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || wroteRecently()) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+
+    public void markWrite() {
+        if (primaryAfterWriteNanos > 0) {
+            lastWriteAt.set(System.nanoTime());
+        }
+    }
+
+    boolean wroteRecently() {
+        Long last = lastWriteAt.get();
+        if (last == null) {
+            return false;
+        }
+        if (System.nanoTime() - last < primaryAfterWriteNanos) {
+            return true;
+        }
+        lastWriteAt.remove();
+        return false;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas) {
+            closeTarget(replica);
+        }
+        closeTarget(primary);
+    }
+
+    private void closeTarget(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private class WriteCommitMarker implements TransactionSynchronization {
+        @Override
+        public void afterCommit() {
+            markWrite();
+        }
+    }
+}
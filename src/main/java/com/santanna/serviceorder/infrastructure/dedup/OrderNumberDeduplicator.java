@@ -0,0 +1,69 @@
+package com.santanna.serviceorder.infrastructure.dedup;
+
+import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class OrderNumberDeduplicator {
+    private static final String CLAIM_KEY_PREFIX = "order:number:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final LoggerUtils loggerUtils;
+    private final BloomFilter seenOrderNumbers;
+    private final boolean redisClaimEnabled;
+    private final Duration claimTtl;
+    private final Counter knownNew;
+    private final Counter maybeDuplicate;
+
+    public OrderNumberDeduplicator(StringRedisTemplate redisTemplate, LoggerUtils loggerUtils, MeterRegistry meterRegistry,
+                                   @Value("${order.dedup.bloom.expected-insertions:1000000}") long expectedInsertions,
+                                   @Value("${order.dedup.bloom.false-positive-rate:0.01}") double falsePositiveRate,
+                                   @Value("${order.dedup.redis-claim.enabled:true}") boolean redisClaimEnabled,
+                                   @Value("${order.dedup.redis-claim.ttl-hours:24}") long claimTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.loggerUtils = loggerUtils;
+        this.seenOrderNumbers = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.redisClaimEnabled = redisClaimEnabled;
+        this.claimTtl = Duration.ofHours(claimTtlHours);
+        this.knownNew = precheck(meterRegistry, "known-new");
+        this.maybeDuplicate = precheck(meterRegistry, "maybe-duplicate");
+    }
+
+    public boolean isKnownNew(String orderNumber) {
+        if (seenOrderNumbers.mightContain(orderNumber) || !claim(orderNumber)) {
+            maybeDuplicate.increment();
+            return false;
+        }
+        knownNew.increment();
+        return true;
+    }
+
+    public void remember(String orderNumber) {
+        seenOrderNumbers.put(orderNumber);
+    }
+
+    private boolean claim(String orderNumber) {
+        if (!redisClaimEnabled) {
+            return true;
+        }
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(CLAIM_KEY_PREFIX + orderNumber, "1", claimTtl));
+        } catch (Exception ex) {
+            loggerUtils.logWarn(OrderNumberDeduplicator.class, "Order number claim unavailable, falling back to database check: {}", ex.getMessage());
+            return false;
+        }
+    }
+
+    private Counter precheck(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("order.dedup.prechecks")
+                .description("Order number pre-checks performed before insert")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
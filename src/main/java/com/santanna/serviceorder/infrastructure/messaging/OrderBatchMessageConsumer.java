@@ -0,0 +1,132 @@
+package com.santanna.serviceorder.infrastructure.messaging;
+
+import com.rabbitmq.client.Channel;
+import com.santanna.serviceorder.app.handler.model.BadRequestException;
+import com.santanna.serviceorder.domain.dto.OrderBatchResultDto;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.service.OrderService;
+import com.santanna.serviceorder.infrastructure.config.RabbitMqConfig;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "order.consumer.batch.enabled", havingValue = "true")
+public class OrderBatchMessageConsumer {
+    private final OrderService orderService;
+    private final Validator validator;
+    private final MessageConverter messageConverter;
+    private final LoggerUtils loggerUtils;
+    private final OrderMetrics orderMetrics;
+    private final OrderIngestionTracker orderIngestionTracker;
+
+    public OrderBatchMessageConsumer(OrderService orderService, Validator validator, MessageConverter messageConverter,
+                                     LoggerUtils loggerUtils, OrderMetrics orderMetrics, OrderIngestionTracker orderIngestionTracker) {
+        this.orderService = orderService;
+        this.validator = validator;
+        this.messageConverter = messageConverter;
+        this.loggerUtils = loggerUtils;
+        this.orderMetrics = orderMetrics;
+        this.orderIngestionTracker = orderIngestionTracker;
+    }
+
+    @Timed(value = "order.consumer.receive", description = "Order message processing latency", extraTags = {"mode", "batch"})
+    @RabbitListener(queues = RabbitMqConfig.ORDER_QUEUE, containerFactory = RabbitMqConfig.BATCH_LISTENER_CONTAINER_FACTORY, concurrency = "3-10")
+    public void receiveOrders(List<Message> messages, Channel channel) throws IOException {
+        loggerUtils.logInfo(OrderBatchMessageConsumer.class, "Received batch of {} order messages from queue", messages.size());
+
+        Map<Long, OrderRequestDto> validOrders = new LinkedHashMap<>();
+        Map<Long, String> trackingIds = new HashMap<>();
+        for (Message message : messages) {
+            long deliveryTag = message.getMessageProperties().getDeliveryTag();
+            String trackingId = message.getMessageProperties().getHeader(OrderIngestionPublisher.TRACKING_ID_HEADER);
+            trackingIds.put(deliveryTag, trackingId);
+            try {
+                OrderRequestDto orderRequestDto = toOrderRequestDto(message);
+                validate(orderRequestDto);
+                validOrders.put(deliveryTag, orderRequestDto);
+            } catch (BadRequestException e) {
+                loggerUtils.logWarn(OrderBatchMessageConsumer.class, "Rejecting invalid order message with delivery tag {}: {}", deliveryTag, e.getMessage());
+                orderMetrics.validationRejected();
+                orderIngestionTracker.rejected(trackingId, e.getMessage());
+                reject(channel, deliveryTag);
+            } catch (Exception e) {
+                loggerUtils.logWarn(OrderBatchMessageConsumer.class, "Rejecting order message with delivery tag {}: {}", deliveryTag, e.getMessage());
+                orderIngestionTracker.rejected(trackingId, e.getMessage());
+                reject(channel, deliveryTag);
+            }
+        }
+
+        if (validOrders.isEmpty()) {
+            return;
+        }
+
+        OrderBatchResultDto result;
+        try {
+            result = orderService.createOrders(new ArrayList<>(validOrders.values()));
+        } catch (Exception e) {
+            loggerUtils.logError(OrderBatchMessageConsumer.class, "Error while persisting batch of {} orders", e, validOrders.size());
+            for (Long deliveryTag : validOrders.keySet()) {
+                orderIngestionTracker.rejected(trackingIds.get(deliveryTag), e.getMessage());
+                reject(channel, deliveryTag);
+            }
+            return;
+        }
+
+        Map<String, OrderResponseDto> createdByNumber = result.getCreated().stream()
+                .collect(Collectors.toMap(OrderResponseDto::getOrderNumber, Function.identity()));
+        for (Map.Entry<Long, OrderRequestDto> entry : validOrders.entrySet()) {
+            OrderResponseDto created = createdByNumber.remove(entry.getValue().getOrderNumber());
+            if (created != null) {
+                orderIngestionTracker.created(trackingIds.get(entry.getKey()), created.getId());
+                channel.basicAck(entry.getKey(), false);
+            } else {
+                loggerUtils.logInfo(OrderBatchMessageConsumer.class, "Duplicate order message acknowledged without processing. Order number: {}", entry.getValue().getOrderNumber());
+                orderIngestionTracker.duplicate(trackingIds.get(entry.getKey()));
+                channel.basicAck(entry.getKey(), false);
+            }
+        }
+
+        loggerUtils.logInfo(OrderBatchMessageConsumer.class, "Order batch processed. Created: {}, Duplicates: {}", result.getCreated().size(), result.getDuplicates().size());
+    }
+
+    private void reject(Channel channel, long deliveryTag) throws IOException {
+        channel.basicReject(deliveryTag, false);
+        orderMetrics.deadLettered();
+    }
+
+    private OrderRequestDto toOrderRequestDto(Message message) {
+        message.getMessageProperties().setInferredArgumentType(OrderRequestDto.class);
+        return (OrderRequestDto) messageConverter.fromMessage(message);
+    }
+
+    private void validate(OrderRequestDto orderRequestDto) {
+        Set<ConstraintViolation<OrderRequestDto>> violations = validator.validate(orderRequestDto);
+
+        if (!violations.isEmpty()) {
+            StringBuilder sb = new StringBuilder("Validation errors: ");
+            for (ConstraintViolation<OrderRequestDto> violation : violations) {
+                sb.append(violation.getPropertyPath()).append(" ").append(violation.getMessage()).append("; ");
+            }
+            throw new BadRequestException(sb.toString());
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.santanna.serviceorder.infrastructure.messaging;
+
+import com.santanna.serviceorder.app.handler.model.InternalServerErrorException;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.infrastructure.config.RabbitMqConfig;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class OrderIngestionPublisher implements SmartLifecycle {
+    public static final String TRACKING_ID_HEADER = "x-order-tracking-id";
+
+    private final RabbitTemplate rabbitTemplate;
+    private final LoggerUtils loggerUtils;
+    private final boolean partitioned;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final BlockingQueue<PendingPublish> pending;
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    public OrderIngestionPublisher(RabbitTemplate rabbitTemplate, LoggerUtils loggerUtils,
+                                   @Value("${order.partitions.enabled:false}") boolean partitioned,
+                                   @Value("${order.ingestion.queue-capacity:10000}") int queueCapacity,
+                                   @Value("${order.ingestion.batch-size:100}") int batchSize,
+                                   @Value("${order.ingestion.confirm-timeout-ms:5000}") long confirmTimeoutMs) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.loggerUtils = loggerUtils;
+        this.partitioned = partitioned;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.pending = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public CompletableFuture<Void> publish(OrderRequestDto orderRequestDto, String trackingId) {
+        var publish = new PendingPublish(orderRequestDto, trackingId, new CompletableFuture<>());
+        if (!running || !pending.offer(publish)) {
+            loggerUtils.logWarn(OrderIngestionPublisher.class, "Ingestion buffer unavailable, rejecting order number {}", orderRequestDto.getOrderNumber());
+            publish.confirmed().completeExceptionally(new InternalServerErrorException("Order ingestion is temporarily unavailable."));
+        }
+        return publish.confirmed();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = Thread.ofVirtual().name("order-ingestion-publisher").start(this::publishLoop);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker != null) {
+            worker.interrupt();
+        }
+        List<PendingPublish> remaining = new ArrayList<>();
+        pending.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            publishBatch(remaining);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void publishLoop() {
+        List<PendingPublish> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                batch.add(pending.take());
+                pending.drainTo(batch, batchSize - 1);
+                publishBatch(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void publishBatch(List<PendingPublish> batch) {
+        try {
+            rabbitTemplate.invoke(operations -> {
+                for (PendingPublish publish : batch) {
+                    var correlationData = new CorrelationData(publish.trackingId());
+                    operations.convertAndSend(exchange(), routingKey(publish.orderRequestDto()), publish.orderRequestDto(), message -> {
+                        message.getMessageProperties().setHeader(TRACKING_ID_HEADER, publish.trackingId());
+                        return message;
+                    }, correlationData);
+                    correlationData.getFuture()
+                            .orTimeout(confirmTimeoutMs, TimeUnit.MILLISECONDS)
+                            .whenComplete((confirm, ex) -> complete(publish, confirm, ex));
+                }
+                return null;
+            });
+        } catch (Exception ex) {
+            loggerUtils.logError(OrderIngestionPublisher.class, "Failed to publish ingestion batch of size {}", ex, batch.size());
+            batch.forEach(publish -> publish.confirmed().completeExceptionally(new InternalServerErrorException("Failed to enqueue order.")));
+        }
+    }
+
+    private void complete(PendingPublish publish, CorrelationData.Confirm confirm, Throwable ex) {
+        if (ex == null && confirm.isAck()) {
+            publish.confirmed().complete(null);
+            return;
+        }
+        loggerUtils.logWarn(OrderIngestionPublisher.class, "Broker did not confirm order number {}: {}",
+                publish.orderRequestDto().getOrderNumber(), ex != null ? ex.toString() : confirm.getReason());
+        publish.confirmed().completeExceptionally(new InternalServerErrorException("Failed to enqueue order."));
+    }
+
+    private String exchange() {
+        return partitioned ? RabbitMqConfig.ORDER_PARTITION_EXCHANGE : "";
+    }
+
+    private String routingKey(OrderRequestDto orderRequestDto) {
+        return partitioned ? orderRequestDto.getOrderNumber() : RabbitMqConfig.ORDER_QUEUE;
+    }
+
+    private record PendingPublish(OrderRequestDto orderRequestDto, String trackingId, CompletableFuture<Void> confirmed) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.santanna.serviceorder.infrastructure.messaging;
+
+import com.santanna.serviceorder.domain.OrderIngestionStatus;
+import com.santanna.serviceorder.domain.dto.OrderIngestionStatusDto;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Component
+public class OrderIngestionTracker {
+    private static final String KEY_PREFIX = "order:ingest:";
+    private static final String STATUS = "status";
+    private static final String ORDER_NUMBER = "orderNumber";
+    private static final String ORDER_ID = "orderId";
+    private static final String REASON = "reason";
+    private static final RedisScript<Long> REPLACE_STATUS_IF = new DefaultRedisScript<>(
+            "if redis.call('hget', KEYS[1], 'status') ~= ARGV[1] then return 0 end "
+                    + "redis.call('hset', KEYS[1], 'status', ARGV[2], 'reason', ARGV[3]) "
+                    + "redis.call('expire', KEYS[1], ARGV[4]) return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LoggerUtils loggerUtils;
+    private final Duration ttl;
+
+    public OrderIngestionTracker(StringRedisTemplate redisTemplate, LoggerUtils loggerUtils,
+                                 @Value("${order.ingestion.tracking-ttl-hours:24}") long ttlHours) {
+        this.redisTemplate = redisTemplate;
+        this.loggerUtils = loggerUtils;
+        this.ttl = Duration.ofHours(ttlHours);
+    }
+
+    public void accepted(String trackingId, String orderNumber) {
+        write(trackingId, Map.of(STATUS, OrderIngestionStatus.ACCEPTED.name(), ORDER_NUMBER, orderNumber));
+    }
+
+    public void created(String trackingId, Long orderId) {
+        write(trackingId, Map.of(STATUS, OrderIngestionStatus.CREATED.name(), ORDER_ID, String.valueOf(orderId)));
+    }
+
+    public void duplicate(String trackingId) {
+        write(trackingId, Map.of(STATUS, OrderIngestionStatus.DUPLICATE.name()));
+    }
+
+    public void rejected(String trackingId, String reason) {
+        write(trackingId, Map.of(STATUS, OrderIngestionStatus.REJECTED.name(), REASON, String.valueOf(reason)));
+    }
+
+    public void notEnqueued(String trackingId, String reason) {
+        if (trackingId == null) {
+            return;
+        }
+        try {
+            redisTemplate.execute(REPLACE_STATUS_IF, List.of(KEY_PREFIX + trackingId),
+                    OrderIngestionStatus.ACCEPTED.name(), OrderIngestionStatus.REJECTED.name(),
+                    String.valueOf(reason), String.valueOf(ttl.toSeconds()));
+        } catch (Exception ex) {
+            loggerUtils.logWarn(OrderIngestionTracker.class, "Failed to record ingestion status for tracking ID {}: {}", trackingId, ex.getMessage());
+        }
+    }
+
+    public Optional<OrderIngestionStatusDto> find(String trackingId) {
+        Map<Object, Object> fields = redisTemplate.opsForHash().entries(KEY_PREFIX + trackingId);
+        if (fields.isEmpty()) {
+            return Optional.empty();
+        }
+        Object orderId = fields.get(ORDER_ID);
+        return Optional.of(OrderIngestionStatusDto.builder()
+                .trackingId(trackingId)
+                .orderNumber((String) fields.get(ORDER_NUMBER))
+                .status(OrderIngestionStatus.valueOf((String) fields.get(STATUS)))
+                .orderId(orderId != null ? Long.valueOf((String) orderId) : null)
+                .reason((String) fields.get(REASON))
+                .build());
+    }
+
+    private void write(String trackingId, Map<String, String> fields) {
+        if (trackingId == null) {
+            return;
+        }
+        try {
+            String key = KEY_PREFIX + trackingId;
+            redisTemplate.opsForHash().putAll(key, fields);
+            redisTemplate.expire(key, ttl);
+        } catch (Exception ex) {
+            loggerUtils.logWarn(OrderIngestionTracker.class, "Failed to record ingestion status for tracking ID {}: {}", trackingId, ex.getMessage());
+        }
+    }
+}
@@ -1,32 +1,50 @@
 package com.santanna.serviceorder.infrastructure.messaging;
 
 import com.santanna.serviceorder.infrastructure.config.RabbitMqConfig;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
 import com.santanna.serviceorder.domain.dto.OrderRequestDto;
 import com.santanna.serviceorder.app.handler.model.BadRequestException;
+import com.santanna.serviceorder.app.handler.model.DuplicateOrderException;
 import com.santanna.serviceorder.domain.service.OrderService;
 import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validator;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.stereotype.Component;
 
 import java.util.Set;
 
 @Component
+@ConditionalOnProperty(name = "order.consumer.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class OrderMessageConsumer {
     private final OrderService orderService;
     private final Validator validator;
     private final LoggerUtils loggerUtils;
+    private final OrderMetrics orderMetrics;
+    private final OrderIngestionTracker orderIngestionTracker;
 
-    public OrderMessageConsumer(OrderService orderService, Validator validator, LoggerUtils loggerUtils) {
+    public OrderMessageConsumer(OrderService orderService, Validator validator, LoggerUtils loggerUtils, OrderMetrics orderMetrics,
+                                OrderIngestionTracker orderIngestionTracker) {
         this.orderService = orderService;
         this.validator = validator;
         this.loggerUtils = loggerUtils;
+        this.orderMetrics = orderMetrics;
+        this.orderIngestionTracker = orderIngestionTracker;
     }
 
-    @RabbitListener(queues = RabbitMqConfig.ORDER_QUEUE, concurrency = "3-10")
     public void receiveOrder(OrderRequestDto orderRequestDto) {
+        receiveOrder(orderRequestDto, null);
+    }
+
+    @Timed(value = "order.consumer.receive", description = "Order message processing latency")
+    @RabbitListener(queues = RabbitMqConfig.ORDER_QUEUE, concurrency = "3-10")
+    public void receiveOrder(@Payload OrderRequestDto orderRequestDto,
+                             @Header(name = OrderIngestionPublisher.TRACKING_ID_HEADER, required = false) String trackingId) {
         try {
             loggerUtils.logInfo(OrderMessageConsumer.class, "Received new order message from queue. Order number: {}", orderRequestDto.getOrderNumber());
 
@@ -38,14 +56,22 @@ public class OrderMessageConsumer {
                     sb.append(violation.getPropertyPath()).append(" ").append(violation.getMessage()).append("; ");
                 }
                 loggerUtils.logWarn(OrderMessageConsumer.class, "Validation failed for order number {}: {}", orderRequestDto.getOrderNumber(), sb.toString());
+                orderMetrics.validationRejected();
 
                 throw new BadRequestException(sb.toString());
             }
-            orderService.createOrder(orderRequestDto);
+            var createdOrder = orderService.createOrder(orderRequestDto);
+            orderIngestionTracker.created(trackingId, createdOrder.getId());
             loggerUtils.logInfo(OrderMessageConsumer.class, "Order successfully processed. Order number: {}", orderRequestDto.getOrderNumber());
 
+        } catch (DuplicateOrderException e) {
+            loggerUtils.logInfo(OrderMessageConsumer.class, "Duplicate order message acknowledged without processing. Order number: {}", orderRequestDto.getOrderNumber());
+            orderIngestionTracker.duplicate(trackingId);
+
         } catch (Exception e) {
             loggerUtils.logWarn(OrderMessageConsumer.class, "Bad request error while processing order number {}: {}", orderRequestDto.getOrderNumber(), e.getMessage());
+            orderMetrics.deadLettered();
+            orderIngestionTracker.rejected(trackingId, e.getMessage());
             throw new AmqpRejectAndDontRequeueException("Erro crítico: " + e.getMessage());
         }
     }
@@ -0,0 +1,144 @@
+package com.santanna.serviceorder.infrastructure.messaging;
+
+import com.santanna.serviceorder.domain.model.OrderOutboxEvent;
+import com.santanna.serviceorder.infrastructure.config.RabbitMqConfig;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.infrastructure.repository.OrderOutboxRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "order.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderOutboxRelay {
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final OrderMetrics orderMetrics;
+    private final LoggerUtils loggerUtils;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final Duration retention;
+    private final int cleanupBatchSize;
+
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository, RabbitTemplate rabbitTemplate,
+                            OrderMetrics orderMetrics, LoggerUtils loggerUtils,
+                            @Value("${order.outbox.relay.batch-size:200}") int batchSize,
+                            @Value("${order.outbox.relay.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                            @Value("${order.outbox.cleanup.retention-minutes:60}") long retentionMinutes,
+                            @Value("${order.outbox.cleanup.batch-size:1000}") int cleanupBatchSize) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.orderMetrics = orderMetrics;
+        this.loggerUtils = loggerUtils;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.retention = Duration.ofMinutes(retentionMinutes);
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.relay.fixed-delay-ms:500}")
+    @Transactional
+    public void relayPendingEvents() {
+        List<OrderOutboxEvent> events = orderOutboxRepository.lockNextPending(PageRequest.of(0, batchSize));
+        if (events.isEmpty()) {
+            orderMetrics.outboxLag(Duration.ZERO);
+            return;
+        }
+        orderMetrics.outboxLag(Duration.between(events.get(0).getCreatedAt(), LocalDateTime.now()));
+
+        Map<OrderOutboxEvent, CorrelationData> pending = new LinkedHashMap<>();
+        for (OrderOutboxEvent event : events) {
+            var correlationData = new CorrelationData(String.valueOf(event.getId()));
+            try {
+                rabbitTemplate.send(RabbitMqConfig.ORDER_EVENTS_EXCHANGE, event.getEventType().getRoutingKey(), toMessage(event), correlationData);
+                pending.put(event, correlationData);
+            } catch (Exception ex) {
+                loggerUtils.logError(OrderOutboxRelay.class, "Failed to publish outbox event {}", ex, event.getId());
+                break;
+            }
+        }
+
+        List<Long> confirmedIds = new ArrayList<>();
+        LocalDateTime confirmedAt = LocalDateTime.now();
+        for (var entry : pending.entrySet()) {
+            if (!isConfirmed(entry.getKey(), entry.getValue())) {
+                break;
+            }
+            confirmedIds.add(entry.getKey().getId());
+            orderMetrics.outboxDelivered(Duration.between(entry.getKey().getCreatedAt(), confirmedAt));
+        }
+
+        if (!confirmedIds.isEmpty()) {
+            orderOutboxRepository.markPublished(confirmedIds, confirmedAt);
+        }
+        int failed = events.size() - confirmedIds.size();
+        if (failed > 0) {
+            orderMetrics.outboxPublishFailed(failed);
+        }
+        loggerUtils.logDebug(OrderOutboxRelay.class, "Relayed {} outbox events, {} left pending", confirmedIds.size(), failed);
+    }
+
+    @Scheduled(fixedDelayString = "${order.outbox.cleanup.fixed-delay-ms:60000}")
+    public void cleanUpPublishedEvents() {
+        LocalDateTime publishedBefore = LocalDateTime.now().minus(retention);
+        var pageable = PageRequest.of(0, cleanupBatchSize);
+        long deleted = 0;
+        List<Long> ids = orderOutboxRepository.findPublishedIdsBefore(publishedBefore, pageable);
+        while (!ids.isEmpty()) {
+            orderOutboxRepository.deleteAllByIdInBatch(ids);
+            deleted += ids.size();
+            ids = ids.size() < cleanupBatchSize ? List.of() : orderOutboxRepository.findPublishedIdsBefore(publishedBefore, pageable);
+        }
+        if (deleted > 0) {
+            loggerUtils.logInfo(OrderOutboxRelay.class, "Removed {} published outbox events older than {}", deleted, publishedBefore);
+        }
+    }
+
+    private boolean isConfirmed(OrderOutboxEvent event, CorrelationData correlationData) {
+        try {
+            CorrelationData.Confirm confirm = correlationData.getFuture().get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+            if (!confirm.isAck()) {
+                loggerUtils.logWarn(OrderOutboxRelay.class, "Broker rejected outbox event {}: {}", event.getId(), confirm.getReason());
+            }
+            return confirm.isAck();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception ex) {
+            loggerUtils.logError(OrderOutboxRelay.class, "No publisher confirm for outbox event {}", ex, event.getId());
+            return false;
+        }
+    }
+
+    private Message toMessage(OrderOutboxEvent event) {
+        return MessageBuilder.withBody(event.getPayload().getBytes(StandardCharsets.UTF_8))
+                .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+                .setContentEncoding(StandardCharsets.UTF_8.name())
+                .setMessageId(String.valueOf(event.getId()))
+                .setType(event.getEventType().name())
+                .setTimestamp(Date.from(event.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant()))
+                .setDeliveryMode(MessageDeliveryMode.PERSISTENT)
+                .build();
+    }
+}
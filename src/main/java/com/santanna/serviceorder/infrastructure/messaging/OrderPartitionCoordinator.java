@@ -0,0 +1,185 @@
+package com.santanna.serviceorder.infrastructure.messaging;
+
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.infrastructure.config.RabbitMqConfig;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+@Component
+@ConditionalOnExpression("${order.partitions.enabled:false} and !${order.consumer.batch.enabled:false}")
+public class OrderPartitionCoordinator implements SmartLifecycle {
+    private static final String MEMBERS_KEY = "order:partitions:members";
+    private static final String LEASE_KEY_PREFIX = "order:partitions:lease:";
+    private static final RedisScript<Long> RENEW_LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final RedisScript<Long> RELEASE_LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final ConnectionFactory connectionFactory;
+    private final MessageConverter messageConverter;
+    private final OrderMessageConsumer orderMessageConsumer;
+    private final StringRedisTemplate redisTemplate;
+    private final LoggerUtils loggerUtils;
+    private final int partitionCount;
+    private final int prefetch;
+    private final Duration leaseTtl;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<Integer, SimpleMessageListenerContainer> ownedPartitions = new ConcurrentSkipListMap<>();
+    private volatile boolean running;
+
+    public OrderPartitionCoordinator(ConnectionFactory connectionFactory, MessageConverter messageConverter,
+                                     OrderMessageConsumer orderMessageConsumer, StringRedisTemplate redisTemplate,
+                                     LoggerUtils loggerUtils, MeterRegistry meterRegistry,
+                                     @Value("${order.partitions.count:4}") int partitionCount,
+                                     @Value("${order.partitions.prefetch:50}") int prefetch,
+                                     @Value("${order.partitions.lease-ttl-ms:15000}") long leaseTtlMs) {
+        this.connectionFactory = connectionFactory;
+        this.messageConverter = messageConverter;
+        this.orderMessageConsumer = orderMessageConsumer;
+        this.redisTemplate = redisTemplate;
+        this.loggerUtils = loggerUtils;
+        this.partitionCount = partitionCount;
+        this.prefetch = prefetch;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMs);
+
+        Gauge.builder("order.partitions.owned", ownedPartitions, Map::size)
+                .description("Order queue partitions consumed by this instance")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        loggerUtils.logInfo(OrderPartitionCoordinator.class, "Starting partition coordinator {} for {} partitions", instanceId, partitionCount);
+        rebalance();
+    }
+
+    @Override
+    public synchronized void stop() {
+        running = false;
+        for (Integer partition : List.copyOf(ownedPartitions.keySet())) {
+            stopPartition(partition);
+            releaseLease(partition);
+        }
+        try {
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, instanceId);
+        } catch (Exception ex) {
+            loggerUtils.logWarn(OrderPartitionCoordinator.class, "Failed to leave partition group: {}", ex.getMessage());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Scheduled(fixedDelayString = "${order.partitions.rebalance-interval-ms:5000}")
+    public synchronized void rebalance() {
+        if (!running) {
+            return;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            var members = redisTemplate.opsForZSet();
+            members.add(MEMBERS_KEY, instanceId, now);
+            members.removeRangeByScore(MEMBERS_KEY, 0, now - leaseTtl.toMillis());
+            Long memberCount = members.zCard(MEMBERS_KEY);
+            int fairShare = (int) Math.ceil((double) partitionCount / Math.max(1, memberCount != null ? memberCount : 1));
+
+            for (Integer partition : List.copyOf(ownedPartitions.keySet())) {
+                if (!renewLease(partition)) {
+                    loggerUtils.logWarn(OrderPartitionCoordinator.class, "Lost lease for partition {}", partition);
+                    stopPartition(partition);
+                }
+            }
+
+            List<Integer> owned = List.copyOf(ownedPartitions.keySet());
+            for (int i = owned.size() - 1; i >= fairShare; i--) {
+                stopPartition(owned.get(i));
+                releaseLease(owned.get(i));
+            }
+
+            int offset = Math.floorMod(instanceId.hashCode(), partitionCount);
+            for (int i = 0; i < partitionCount && ownedPartitions.size() < fairShare; i++) {
+                int partition = (offset + i) % partitionCount;
+                if (!ownedPartitions.containsKey(partition) && acquireLease(partition)) {
+                    startPartition(partition);
+                }
+            }
+        } catch (Exception ex) {
+            loggerUtils.logError(OrderPartitionCoordinator.class, "Partition rebalance failed for instance {}", ex, instanceId);
+        }
+    }
+
+    public List<Integer> getOwnedPartitions() {
+        return List.copyOf(ownedPartitions.keySet());
+    }
+
+    protected SimpleMessageListenerContainer createContainer(int partition) {
+        var container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueueNames(RabbitMqConfig.orderPartitionQueue(partition));
+        container.setConcurrentConsumers(1);
+        container.setPrefetchCount(prefetch);
+        container.setMessageListener((Message message) -> {
+            message.getMessageProperties().setInferredArgumentType(OrderRequestDto.class);
+            orderMessageConsumer.receiveOrder((OrderRequestDto) messageConverter.fromMessage(message),
+                    message.getMessageProperties().getHeader(OrderIngestionPublisher.TRACKING_ID_HEADER));
+        });
+        container.afterPropertiesSet();
+        return container;
+    }
+
+    private void startPartition(int partition) {
+        var container = createContainer(partition);
+        container.start();
+        ownedPartitions.put(partition, container);
+        loggerUtils.logInfo(OrderPartitionCoordinator.class, "Consuming order partition {}", partition);
+    }
+
+    private void stopPartition(int partition) {
+        var container = ownedPartitions.remove(partition);
+        if (container != null) {
+            container.stop();
+            loggerUtils.logInfo(OrderPartitionCoordinator.class, "Stopped consuming order partition {}", partition);
+        }
+    }
+
+    private boolean acquireLease(int partition) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LEASE_KEY_PREFIX + partition, instanceId, leaseTtl));
+    }
+
+    private boolean renewLease(int partition) {
+        Long renewed = redisTemplate.execute(RENEW_LEASE, List.of(LEASE_KEY_PREFIX + partition), instanceId, String.valueOf(leaseTtl.toMillis()));
+        return renewed != null && renewed == 1L;
+    }
+
+    private void releaseLease(int partition) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE, List.of(LEASE_KEY_PREFIX + partition), instanceId);
+        } catch (Exception ex) {
+            loggerUtils.logWarn(OrderPartitionCoordinator.class, "Failed to release lease for partition {}: {}", partition, ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.santanna.serviceorder.infrastructure.metrics;
+
+import com.santanna.serviceorder.infrastructure.config.RabbitMqConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.amqp.core.AmqpAdmin;
+import org.springframework.amqp.core.QueueInformation;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class OrderMetrics {
+    private final Counter duplicates;
+    private final Counter validationRejects;
+    private final Counter deadLettered;
+    private final Counter outboxPublished;
+    private final Counter outboxPublishFailures;
+    private final Timer outboxDeliveryDelay;
+    private final Counter archived;
+    private final Counter optimisticLockConflicts;
+    private final AtomicLong outboxLagMillis = new AtomicLong();
+
+    public OrderMetrics(MeterRegistry meterRegistry, AmqpAdmin amqpAdmin) {
+        this.duplicates = Counter.builder("order.duplicates")
+                .description("Orders rejected because the order number already exists")
+                .register(meterRegistry);
+        this.validationRejects = Counter.builder("order.consumer.validation.rejects")
+                .description("Order messages rejected by Bean Validation")
+                .register(meterRegistry);
+        this.deadLettered = Counter.builder("order.consumer.dead.lettered")
+                .description("Order messages rejected without requeue")
+                .register(meterRegistry);
+
+        this.outboxPublished = Counter.builder("order.outbox.published")
+                .description("Outbox events confirmed by the broker")
+                .register(meterRegistry);
+        this.outboxPublishFailures = Counter.builder("order.outbox.publish.failures")
+                .description("Outbox events left pending after a relay run")
+                .register(meterRegistry);
+        this.outboxDeliveryDelay = Timer.builder("order.outbox.delivery.delay")
+                .description("Time between writing an outbox event and its publisher confirm")
+                .register(meterRegistry);
+        Gauge.builder("order.outbox.lag", outboxLagMillis, lag -> lag.get() / 1000.0)
+                .description("Age of the oldest unpublished outbox event")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+
+        this.optimisticLockConflicts = Counter.builder("order.optimistic.lock.conflicts")
+                .description("Status updates that found the order modified since it was read")
+                .register(meterRegistry);
+        this.archived = Counter.builder("order.archived")
+                .description("Delivered orders moved to the archive table")
+                .register(meterRegistry);
+
+        Gauge.builder("order.queue.depth", amqpAdmin, OrderMetrics::queueDepth)
+                .description("Messages waiting in the order queue")
+                .tag("queue", RabbitMqConfig.ORDER_QUEUE)
+                .register(meterRegistry);
+    }
+
+    public void duplicate() {
+        duplicates.increment();
+    }
+
+    public void validationRejected() {
+        validationRejects.increment();
+    }
+
+    public void deadLettered() {
+        deadLettered.increment();
+    }
+
+    public void outboxDelivered(Duration delay) {
+        outboxPublished.increment();
+        outboxDeliveryDelay.record(delay);
+    }
+
+    public void outboxPublishFailed(int count) {
+        outboxPublishFailures.increment(count);
+    }
+
+    public void outboxLag(Duration lag) {
+        outboxLagMillis.set(lag.toMillis());
+    }
+
+    public void optimisticLockConflict() {
+        optimisticLockConflicts.increment();
+    }
+
+    public void archived(int count) {
+        archived.increment(count);
+    }
+
+    private static double queueDepth(AmqpAdmin amqpAdmin) {
+        try {
+            QueueInformation queueInformation = amqpAdmin.getQueueInfo(RabbitMqConfig.ORDER_QUEUE);
+            return queueInformation != null ? queueInformation.getMessageCount() : Double.NaN;
+        } catch (Exception ex) {
+            return Double.NaN;
+        }
+    }
+}
@@ -0,0 +1,262 @@
+package com.santanna.serviceorder.infrastructure.metrics;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderStatusCountDto;
+import com.santanna.serviceorder.domain.dto.OrderStatusSummaryDto;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongConsumer;
+
+@Component
+public class OrderStatusCounters {
+    private static final String COUNTS_KEY = "order:status:counts";
+    private static final String RECONCILE_LOCK_KEY = "order:status:counts:reconcile";
+    private static final String RECONCILING = "reconciling";
+    private static final long MISSING = -1L;
+    private static final long APPLIED = 0L;
+    private static final RedisScript<Long> INCREMENT_IF_CURRENT = new DefaultRedisScript<>(
+            "local cutoff = redis.call('hget', KEYS[1], 'cutoff') "
+                    + "if not cutoff then return -1 end "
+                    + "if cutoff ~= ARGV[1] then return tonumber(cutoff) end "
+                    + "for i = 2, #ARGV, 2 do redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) end return 0",
+            Long.class);
+    private static final RedisScript<Long> BEGIN_RECONCILE = new DefaultRedisScript<>(
+            "redis.call('del', KEYS[1]) "
+                    + "redis.call('hset', KEYS[1], 'cutoff', ARGV[1], 'reconciling', '1') "
+                    + "for i = 2, #ARGV do redis.call('hset', KEYS[1], ARGV[i], '0') end return 1",
+            Long.class);
+    private static final RedisScript<Long> FINISH_RECONCILE = new DefaultRedisScript<>(
+            "if redis.call('hget', KEYS[1], 'cutoff') ~= ARGV[1] then return 0 end "
+                    + "for i = 2, #ARGV, 2 do redis.call('hincrby', KEYS[1], ARGV[i], ARGV[i + 1]) end "
+                    + "redis.call('hdel', KEYS[1], 'reconciling') return 1",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final OrderRepository orderRepository;
+    private final LoggerUtils loggerUtils;
+    private final Duration reconcileLockTtl;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Queue<PendingDelta> pendingDeltas = new ConcurrentLinkedQueue<>();
+    private volatile long knownCutoff;
+
+    public OrderStatusCounters(StringRedisTemplate redisTemplate, OrderRepository orderRepository, LoggerUtils loggerUtils,
+                               @Value("${order.status-counters.reconcile-lock-ttl-ms:60000}") long reconcileLockTtlMs) {
+        this.redisTemplate = redisTemplate;
+        this.orderRepository = orderRepository;
+        this.loggerUtils = loggerUtils;
+        this.reconcileLockTtl = Duration.ofMillis(reconcileLockTtlMs);
+    }
+
+    public void created(OrderStatus status) {
+        afterCommit(committedAt -> pendingDeltas.add(new PendingDelta(committedAt, status, 1L)));
+    }
+
+    public void deleted(OrderStatus status) {
+        afterCommit(committedAt -> pendingDeltas.add(new PendingDelta(committedAt, status, -1L)));
+    }
+
+    public void archived(OrderStatus status, long count) {
+        afterCommit(committedAt -> pendingDeltas.add(new PendingDelta(committedAt, status, -count)));
+    }
+
+    public void statusChanged(OrderStatus from, OrderStatus to) {
+        if (from == to) {
+            return;
+        }
+        afterCommit(committedAt -> {
+            pendingDeltas.add(new PendingDelta(committedAt, from, -1L));
+            pendingDeltas.add(new PendingDelta(committedAt, to, 1L));
+        });
+    }
+
+    public void statusesChanged(Collection<OrderStatusCountDto> previousCounts, OrderStatus to) {
+        afterCommit(committedAt -> previousCounts.stream()
+                .filter(count -> count.getStatus() != to)
+                .forEach(count -> {
+                    pendingDeltas.add(new PendingDelta(committedAt, count.getStatus(), -count.getCount()));
+                    pendingDeltas.add(new PendingDelta(committedAt, to, count.getCount()));
+                }));
+    }
+
+    public OrderStatusSummaryDto summary() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        try {
+            Map<Object, Object> shared = redisTemplate.opsForHash().entries(COUNTS_KEY);
+            if (shared.isEmpty()) {
+                loggerUtils.logInfo(OrderStatusCounters.class, "Shared status counters not initialized yet, counting from the database");
+                return toSummary(countFromDatabase());
+            }
+            if (shared.containsKey(RECONCILING)) {
+                loggerUtils.logInfo(OrderStatusCounters.class, "Shared status counters are being reconciled, counting from the database");
+                return toSummary(countFromDatabase());
+            }
+            Map<OrderStatus, Long> local = sum(List.copyOf(pendingDeltas));
+            for (OrderStatus status : OrderStatus.values()) {
+                Object sharedCount = shared.get(status.name());
+                long value = sharedCount != null ? Long.parseLong((String) sharedCount) : 0L;
+                counts.put(status, value + local.getOrDefault(status, 0L));
+            }
+        } catch (Exception ex) {
+            loggerUtils.logWarn(OrderStatusCounters.class, "Failed to read shared status counters, counting from the database: {}", ex.getMessage());
+            return toSummary(countFromDatabase());
+        }
+        return toSummary(counts);
+    }
+
+    @Scheduled(fixedDelayString = "${order.status-counters.flush-interval-ms:1000}")
+    public void flush() {
+        List<PendingDelta> drained = drain();
+        Map<OrderStatus, Long> deltas = sum(drained);
+        if (deltas.isEmpty()) {
+            return;
+        }
+        long cutoff = knownCutoff;
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(cutoff));
+        deltas.forEach((status, value) -> {
+            args.add(status.name());
+            args.add(String.valueOf(value));
+        });
+        Long result;
+        try {
+            result = redisTemplate.execute(INCREMENT_IF_CURRENT, List.of(COUNTS_KEY), args.toArray());
+        } catch (Exception ex) {
+            pendingDeltas.addAll(drained);
+            loggerUtils.logWarn(OrderStatusCounters.class, "Failed to flush status counter deltas, keeping them for the next run: {}", ex.getMessage());
+            return;
+        }
+        if (result == null || result == MISSING) {
+            pendingDeltas.addAll(drained);
+            loggerUtils.logWarn(OrderStatusCounters.class, "Shared status counters are missing, keeping deltas and reconciling with the database");
+            reconcile();
+            return;
+        }
+        if (result != APPLIED) {
+            long reconciledAt = result;
+            knownCutoff = reconciledAt;
+            drained.stream().filter(delta -> delta.committedAt() > reconciledAt).forEach(pendingDeltas::add);
+            loggerUtils.logDebug(OrderStatusCounters.class, "Status counters were reconciled at {}, dropping deltas committed up to it (was {})", reconciledAt, cutoff);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${order.status-counters.reconcile-initial-delay-ms:5000}",
+            fixedDelayString = "${order.status-counters.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        Boolean acquired;
+        try {
+            acquired = redisTemplate.opsForValue().setIfAbsent(RECONCILE_LOCK_KEY, instanceId, reconcileLockTtl);
+        } catch (Exception ex) {
+            loggerUtils.logWarn(OrderStatusCounters.class, "Failed to acquire status counter reconciliation lock: {}", ex.getMessage());
+            return;
+        }
+        if (!Boolean.TRUE.equals(acquired)) {
+            loggerUtils.logDebug(OrderStatusCounters.class, "Status counter reconciliation is running on another instance");
+            return;
+        }
+        try {
+            long cutoff = System.currentTimeMillis();
+            List<String> statuses = new ArrayList<>();
+            statuses.add(String.valueOf(cutoff));
+            for (OrderStatus status : OrderStatus.values()) {
+                statuses.add(status.name());
+            }
+            redisTemplate.execute(BEGIN_RECONCILE, List.of(COUNTS_KEY), statuses.toArray());
+            knownCutoff = cutoff;
+            pendingDeltas.removeIf(delta -> delta.committedAt() <= cutoff);
+
+            Map<OrderStatus, Long> counts = countFromDatabase();
+            List<String> args = new ArrayList<>();
+            args.add(String.valueOf(cutoff));
+            counts.forEach((status, count) -> {
+                args.add(status.name());
+                args.add(String.valueOf(count));
+            });
+            Long finished = redisTemplate.execute(FINISH_RECONCILE, List.of(COUNTS_KEY), args.toArray());
+            if (finished == null || finished != 1L) {
+                loggerUtils.logWarn(OrderStatusCounters.class, "Status counter reconciliation at {} was superseded by another run", cutoff);
+                return;
+            }
+            loggerUtils.logInfo(OrderStatusCounters.class, "Status counters reconciled with the database: {}", counts);
+        } catch (Exception ex) {
+            loggerUtils.logError(OrderStatusCounters.class, "Failed to reconcile status counters", ex);
+            discardSharedCounts();
+        } finally {
+            if (instanceId.equals(redisTemplate.opsForValue().get(RECONCILE_LOCK_KEY))) {
+                redisTemplate.delete(RECONCILE_LOCK_KEY);
+            }
+        }
+    }
+
+    private void discardSharedCounts() {
+        try {
+            redisTemplate.delete(COUNTS_KEY);
+        } catch (Exception ex) {
+            loggerUtils.logWarn(OrderStatusCounters.class, "Failed to discard partially reconciled status counters: {}", ex.getMessage());
+        }
+    }
+
+    private List<PendingDelta> drain() {
+        List<PendingDelta> drained = new ArrayList<>();
+        PendingDelta delta;
+        while ((delta = pendingDeltas.poll()) != null) {
+            drained.add(delta);
+        }
+        return drained;
+    }
+
+    private Map<OrderStatus, Long> sum(List<PendingDelta> deltas) {
+        Map<OrderStatus, Long> sums = new EnumMap<>(OrderStatus.class);
+        deltas.forEach(delta -> sums.merge(delta.status(), delta.value(), Long::sum));
+        sums.values().removeIf(value -> value == 0L);
+        return sums;
+    }
+
+    private Map<OrderStatus, Long> countFromDatabase() {
+        Map<OrderStatus, Long> counts = new EnumMap<>(OrderStatus.class);
+        for (OrderStatus status : OrderStatus.values()) {
+            counts.put(status, 0L);
+        }
+        List<OrderStatusCountDto> rows = orderRepository.countByStatus();
+        rows.forEach(row -> counts.put(row.getStatus(), row.getCount()));
+        return counts;
+    }
+
+    private OrderStatusSummaryDto toSummary(Map<OrderStatus, Long> counts) {
+        long total = counts.values().stream().mapToLong(Long::longValue).sum();
+        return new OrderStatusSummaryDto(counts, total);
+    }
+
+    private void afterCommit(LongConsumer update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.accept(System.currentTimeMillis());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.accept(System.currentTimeMillis());
+            }
+        });
+    }
+
+    private record PendingDelta(long committedAt, OrderStatus status, long value) {
+    }
+}
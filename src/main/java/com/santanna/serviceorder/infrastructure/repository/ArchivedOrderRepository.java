@@ -0,0 +1,22 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.domain.model.ArchivedOrder;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface ArchivedOrderRepository extends JpaRepository<ArchivedOrder, Long> {
+
+    @Modifying
+    @Query(value = "INSERT INTO orders_archive " +
+            "(id, order_number, product_name, quantity, total_value, order_status, created_at, version, archived_at) " +
+            "SELECT id, order_number, product_name, quantity, total_value, order_status, created_at, version, :archivedAt " +
+            "FROM orders WHERE id IN :ids", nativeQuery = true)
+    int copyFromOrders(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,12 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.domain.model.Order;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface OrderBatchInsertRepository {
+
+    @Transactional
+    List<Order> insertAll(List<Order> orders);
+}
@@ -0,0 +1,85 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.domain.model.Order;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Map;
+
+public class OrderBatchInsertRepositoryImpl implements OrderBatchInsertRepository {
+    private static final String INSERT_SQL =
+            "INSERT INTO orders (order_number, product_name, quantity, total_value, order_status, created_at, version) " +
+                    "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final long INITIAL_VERSION = 0L;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderBatchInsertRepositoryImpl(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<Order> insertAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+
+        List<Map<String, Object>> keys = jdbcTemplate.execute((ConnectionCallback<List<Map<String, Object>>>) connection -> {
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try {
+                List<Map<String, Object>> generated = insertBatch(orders);
+                if (savepoint != null) {
+                    connection.releaseSavepoint(savepoint);
+                }
+                return generated;
+            } catch (DataAccessException ex) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                throw ex;
+            }
+        });
+        if (keys.size() != orders.size()) {
+            throw new IllegalStateException("Expected " + orders.size() + " generated ids but got " + keys.size());
+        }
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            order.setId(((Number) keys.get(i).values().iterator().next()).longValue());
+            order.setVersion(INITIAL_VERSION);
+        }
+        return orders;
+    }
+
+    private List<Map<String, Object>> insertBatch(List<Order> orders) {
+        var keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Order order = orders.get(i);
+                        ps.setString(1, order.getOrderNumber());
+                        ps.setString(2, order.getProductName());
+                        ps.setInt(3, order.getQuantity());
+                        ps.setBigDecimal(4, order.getTotalValue());
+                        ps.setString(5, order.getOrderStatus().name());
+                        ps.setTimestamp(6, Timestamp.valueOf(order.getCreatedAt()));
+                        ps.setLong(7, INITIAL_VERSION);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return orders.size();
+                    }
+                }, keyHolder);
+        return keyHolder.getKeyList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.domain.model.OrderOutboxEvent;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface OrderOutboxBatchInsertRepository {
+
+    @Transactional
+    void insertAll(List<OrderOutboxEvent> events);
+}
@@ -1,13 +1,98 @@
 package com.santanna.serviceorder.infrastructure.repository;
 
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.dto.OrderStatusCountDto;
 import com.santanna.serviceorder.domain.model.Order;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, Long> {
+public interface OrderRepository extends JpaRepository<Order, Long>, OrderSearchRepository, OrderBatchInsertRepository {
+    String RESPONSE_PROJECTION = "SELECT new com.santanna.serviceorder.domain.dto.OrderResponseDto(" +
+            "o.id, o.orderNumber, o.productName, o.quantity, o.totalValue, o.orderStatus, o.createdAt, o.version) FROM Order o";
 
     Optional<Order> findByOrderNumber(String orderNumber);
+
+    @Query("SELECT o.orderNumber FROM Order o WHERE o.orderNumber IN :orderNumbers")
+    List<String> findExistingOrderNumbers(@Param("orderNumbers") Collection<String> orderNumbers);
+
+    @Query("SELECT COUNT(a) > 0 FROM ArchivedOrder a WHERE a.orderNumber = :orderNumber")
+    boolean isArchivedOrderNumber(@Param("orderNumber") String orderNumber);
+
+    @Query("SELECT a.orderNumber FROM ArchivedOrder a WHERE a.orderNumber IN :orderNumbers")
+    List<String> findArchivedOrderNumbers(@Param("orderNumbers") Collection<String> orderNumbers);
+
+    @Query("SELECT new com.santanna.serviceorder.domain.dto.OrderResponseDto(" +
+            "a.id, a.orderNumber, a.productName, a.quantity, a.totalValue, a.orderStatus, a.createdAt, a.version) " +
+            "FROM ArchivedOrder a WHERE a.id = :id")
+    Optional<OrderResponseDto> findArchivedResponseById(@Param("id") Long id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT o FROM Order o WHERE o.orderStatus = :status AND o.createdAt < :createdBefore ORDER BY o.id")
+    List<Order> lockArchivable(@Param("status") OrderStatus status, @Param("createdBefore") LocalDateTime createdBefore, Pageable pageable);
+
+    @Query(value = RESPONSE_PROJECTION, countQuery = "SELECT COUNT(o) FROM Order o")
+    Page<OrderResponseDto> findAllResponses(Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + " WHERE o.id = :id")
+    Optional<OrderResponseDto> findResponseById(@Param("id") Long id);
+
+    @Query(RESPONSE_PROJECTION + " ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderResponseDto> findFirstKeysetPage(Pageable pageable);
+
+    @Query(RESPONSE_PROJECTION + " " +
+            "WHERE o.createdAt < :createdAt OR (o.createdAt = :createdAt AND o.id < :id) " +
+            "ORDER BY o.createdAt DESC, o.id DESC")
+    List<OrderResponseDto> findKeysetPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("SELECT o.id FROM Order o WHERE o.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT o.id FROM Order o WHERE o.orderStatus = :status AND o.id > :afterId ORDER BY o.id")
+    List<Long> findIdsByStatusAfter(@Param("status") OrderStatus status, @Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("SELECT new com.santanna.serviceorder.domain.dto.OrderStatusCountDto(o.orderStatus, COUNT(o)) " +
+            "FROM Order o GROUP BY o.orderStatus")
+    List<OrderStatusCountDto> countByStatus();
+
+    @Query("SELECT new com.santanna.serviceorder.domain.dto.OrderStatusCountDto(o.orderStatus, COUNT(o)) " +
+            "FROM Order o WHERE o.id IN :ids GROUP BY o.orderStatus")
+    List<OrderStatusCountDto> countByStatusForIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :status, o.version = o.version + 1 WHERE o.id = :id AND o.version = :version")
+    int updateStatusIfVersion(@Param("id") Long id, @Param("status") OrderStatus status, @Param("version") Long version);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :status, o.version = o.version + 1 WHERE o.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids, @Param("status") OrderStatus status);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT o FROM Order o " +
+            "WHERE (:status IS NULL OR o.orderStatus = :status) " +
+            "AND (:createdAfter IS NULL OR o.createdAt > :createdAfter) " +
+            "ORDER BY o.id")
+    Stream<Order> streamForExport(@Param("status") OrderStatus status, @Param("createdAfter") LocalDateTime createdAfter);
 }
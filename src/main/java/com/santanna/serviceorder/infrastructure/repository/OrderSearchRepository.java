@@ -0,0 +1,13 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.dto.OrderSearchCriteriaDto;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface OrderSearchRepository {
+
+    @Transactional(readOnly = true)
+    List<OrderResponseDto> search(OrderSearchCriteriaDto criteria, int offset, int limit);
+}
@@ -0,0 +1,75 @@
+package com.santanna.serviceorder.infrastructure.repository;
+
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.dto.OrderSearchCriteriaDto;
+import com.santanna.serviceorder.domain.model.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class OrderSearchRepositoryImpl implements OrderSearchRepository {
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final EntityManager entityManager;
+
+    public OrderSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<OrderResponseDto> search(OrderSearchCriteriaDto criteria, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        var query = cb.createQuery(OrderResponseDto.class);
+        Root<Order> order = query.from(Order.class);
+
+        query.select(cb.construct(OrderResponseDto.class,
+                        order.get("id"),
+                        order.get("orderNumber"),
+                        order.get("productName"),
+                        order.get("quantity"),
+                        order.get("totalValue"),
+                        order.get("orderStatus"),
+                        order.get("createdAt"),
+                        order.get("version")))
+                .where(predicates(cb, order, criteria).toArray(Predicate[]::new))
+                .orderBy(cb.desc(order.get("createdAt")), cb.desc(order.get("id")));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private List<Predicate> predicates(CriteriaBuilder cb, Root<Order> order, OrderSearchCriteriaDto criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.getStatus() != null) {
+            predicates.add(cb.equal(order.get("orderStatus"), criteria.getStatus()));
+        }
+        if (criteria.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(order.<LocalDateTime>get("createdAt"), criteria.getCreatedFrom()));
+        }
+        if (criteria.getCreatedTo() != null) {
+            predicates.add(cb.lessThan(order.<LocalDateTime>get("createdAt"), criteria.getCreatedTo()));
+        }
+        if (criteria.getProductNamePrefix() != null && !criteria.getProductNamePrefix().isBlank()) {
+            predicates.add(cb.like(order.<String>get("productName"), escapeLike(criteria.getProductNamePrefix()) + "%", LIKE_ESCAPE));
+        }
+        if (criteria.getMinTotalValue() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(order.<BigDecimal>get("totalValue"), criteria.getMinTotalValue()));
+        }
+        if (criteria.getMaxTotalValue() != null) {
+            predicates.add(cb.lessThanOrEqualTo(order.<BigDecimal>get("totalValue"), criteria.getMaxTotalValue()));
+        }
+        return predicates;
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -6,27 +6,150 @@ import org.springframework.stereotype.Component;
 
 @Component
 public class LoggerUtils {
+    private static final ClassValue<Logger> LOGGERS = new ClassValue<>() {
+        @Override
+        protected Logger computeValue(Class<?> type) {
+            return LoggerFactory.getLogger(type);
+        }
+    };
+
     public Logger getLogger(Class<?> clazz) {
-        return LoggerFactory.getLogger(clazz);
+        return LOGGERS.get(clazz);
+    }
+
+    public void logInfo(Class<?> clazz, String message) {
+        Logger logger = getLogger(clazz);
+        if (logger.isInfoEnabled()) {
+            logger.info(message);
+        }
+    }
+
+    public void logInfo(Class<?> clazz, String message, Object arg) {
+        Logger logger = getLogger(clazz);
+        if (logger.isInfoEnabled()) {
+            logger.info(message, arg);
+        }
+    }
+
+    public void logInfo(Class<?> clazz, String message, Object arg1, Object arg2) {
+        Logger logger = getLogger(clazz);
+        if (logger.isInfoEnabled()) {
+            logger.info(message, arg1, arg2);
+        }
+    }
+
+    public void logInfo(Class<?> clazz, String message, Object arg1, Object arg2, Object arg3) {
+        Logger logger = getLogger(clazz);
+        if (logger.isInfoEnabled()) {
+            logger.info(message, arg1, arg2, arg3);
+        }
     }
 
     public void logInfo(Class<?> clazz, String message, Object... args) {
         Logger logger = getLogger(clazz);
-        logger.info(message, args);
+        if (logger.isInfoEnabled()) {
+            logger.info(message, args);
+        }
+    }
+
+    public void logError(Class<?> clazz, String message, Throwable ex) {
+        Logger logger = getLogger(clazz);
+        if (logger.isErrorEnabled()) {
+            logger.error(message, ex);
+        }
+    }
+
+    public void logError(Class<?> clazz, String message, Throwable ex, Object arg) {
+        Logger logger = getLogger(clazz);
+        if (logger.isErrorEnabled()) {
+            logger.error(message, arg, ex);
+        }
+    }
+
+    public void logError(Class<?> clazz, String message, Throwable ex, Object arg1, Object arg2) {
+        Logger logger = getLogger(clazz);
+        if (logger.isErrorEnabled()) {
+            logger.error(message, arg1, arg2, ex);
+        }
     }
 
     public void logError(Class<?> clazz, String message, Throwable ex, Object... args) {
         Logger logger = getLogger(clazz);
-        logger.error(message, args, ex);
+        if (logger.isErrorEnabled()) {
+            Object[] argsWithThrowable = new Object[args.length + 1];
+            System.arraycopy(args, 0, argsWithThrowable, 0, args.length);
+            argsWithThrowable[args.length] = ex;
+            logger.error(message, argsWithThrowable);
+        }
+    }
+
+    public void logWarn(Class<?> clazz, String message) {
+        Logger logger = getLogger(clazz);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message);
+        }
+    }
+
+    public void logWarn(Class<?> clazz, String message, Object arg) {
+        Logger logger = getLogger(clazz);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message, arg);
+        }
+    }
+
+    public void logWarn(Class<?> clazz, String message, Object arg1, Object arg2) {
+        Logger logger = getLogger(clazz);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message, arg1, arg2);
+        }
+    }
+
+    public void logWarn(Class<?> clazz, String message, Object arg1, Object arg2, Object arg3) {
+        Logger logger = getLogger(clazz);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message, arg1, arg2, arg3);
+        }
     }
 
     public void logWarn(Class<?> clazz, String message, Object... args) {
         Logger logger = getLogger(clazz);
-        logger.warn(message, args);
+        if (logger.isWarnEnabled()) {
+            logger.warn(message, args);
+        }
+    }
+
+    public void logDebug(Class<?> clazz, String message) {
+        Logger logger = getLogger(clazz);
+        if (logger.isDebugEnabled()) {
+            logger.debug(message);
+        }
+    }
+
+    public void logDebug(Class<?> clazz, String message, Object arg) {
+        Logger logger = getLogger(clazz);
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, arg);
+        }
+    }
+
+    public void logDebug(Class<?> clazz, String message, Object arg1, Object arg2) {
+        Logger logger = getLogger(clazz);
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, arg1, arg2);
+        }
+    }
+
+    public void logDebug(Class<?> clazz, String message, Object arg1, Object arg2, Object arg3) {
+        Logger logger = getLogger(clazz);
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, arg1, arg2, arg3);
+        }
     }
 
     public void logDebug(Class<?> clazz, String message, Object... args) {
         Logger logger = getLogger(clazz);
-        logger.debug(message, args);
+        if (logger.isDebugEnabled()) {
+            logger.debug(message, args);
+        }
     }
 }
@@ -0,0 +1,151 @@
+package com.santanna.serviceorder.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.santanna.serviceorder.app.controller.OrderController;
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.service.OrderBatchService;
+import com.santanna.serviceorder.domain.service.OrderExportService;
+import com.santanna.serviceorder.domain.service.OrderIngestionService;
+import com.santanna.serviceorder.domain.service.OrderSearchService;
+import com.santanna.serviceorder.domain.service.OrderService;
+import com.santanna.serviceorder.infrastructure.config.JacksonConfig;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(OrderController.class)
+@Import(JacksonConfig.class)
+class BinaryFormatConfigTest {
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 10, 30, 15);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private RequestMappingHandlerAdapter handlerAdapter;
+
+    @MockBean
+    private OrderService orderService;
+
+    @MockBean
+    private OrderExportService orderExportService;
+
+    @MockBean
+    private OrderIngestionService orderIngestionService;
+
+    @MockBean
+    private OrderSearchService orderSearchService;
+
+    @MockBean
+    private OrderBatchService orderBatchService;
+
+    @MockBean
+    private LoggerUtils loggerUtils;
+
+    @BeforeEach
+    void setUp() {
+        when(orderService.getOrderById(1L)).thenReturn(OrderResponseDto.builder()
+                .id(1L)
+                .orderNumber("ORD12345")
+                .productName("Produto Teste")
+                .quantity(3)
+                .totalValue(new BigDecimal("300.00"))
+                .status(OrderStatus.PROCESSED)
+                .createdAt(CREATED_AT)
+                .version(2L)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Should keep JSON as the default representation for wildcard Accept headers")
+    void shouldKeepJsonAsDefault() throws Exception {
+        mockMvc.perform(get("/order/1").accept(MediaType.ALL))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    @Test
+    @DisplayName("Should serve CBOR and Smile with the same fields and dates as JSON and smaller payloads")
+    void shouldServeBinaryFormatsLikeJson() throws Exception {
+        byte[] json = fetch(MediaType.APPLICATION_JSON);
+        JsonNode jsonOrder = objectMapper.readTree(json);
+
+        for (var format : Map.<MediaType, JsonFactory>of(MediaType.APPLICATION_CBOR, new CBORFactory(), SMILE, new SmileFactory()).entrySet()) {
+            byte[] body = fetch(format.getKey());
+            JsonNode order = new ObjectMapper(format.getValue()).readTree(body);
+
+            assertEquals(fieldNames(jsonOrder), fieldNames(order));
+            assertEquals(jsonOrder.get("orderNumber"), order.get("orderNumber"));
+            assertEquals(jsonOrder.get("createdAt"), order.get("createdAt"));
+            assertEquals(0, jsonOrder.get("totalValue").decimalValue().compareTo(order.get("totalValue").decimalValue()));
+            assertTrue(body.length < json.length);
+        }
+    }
+
+    @Test
+    @DisplayName("Should build the CBOR and Smile mappers from the application ObjectMapper")
+    void shouldUseApplicationObjectMapperForBinaryFormats() throws Exception {
+        JsonNode jsonDate = objectMapper.readTree(objectMapper.writeValueAsBytes(CREATED_AT));
+        var binaryConverters = handlerAdapter.getMessageConverters().stream()
+                .filter(converter -> converter instanceof MappingJackson2CborHttpMessageConverter
+                        || converter instanceof MappingJackson2SmileHttpMessageConverter)
+                .map(converter -> ((AbstractJackson2HttpMessageConverter) converter).getObjectMapper())
+                .toList();
+
+        assertEquals(2, binaryConverters.size());
+        for (var binaryMapper : binaryConverters) {
+            assertEquals(objectMapper.getSerializationConfig().getSerializationFeatures(),
+                    binaryMapper.getSerializationConfig().getSerializationFeatures());
+            assertEquals(objectMapper.getDeserializationConfig().getDeserializationFeatures(),
+                    binaryMapper.getDeserializationConfig().getDeserializationFeatures());
+            assertEquals(jsonDate, binaryMapper.readTree(binaryMapper.writeValueAsBytes(CREATED_AT)));
+        }
+    }
+
+    private Set<String> fieldNames(JsonNode node) {
+        Set<String> names = new HashSet<>();
+        node.fieldNames().forEachRemaining(names::add);
+        return names;
+    }
+
+    private byte[] fetch(MediaType mediaType) throws Exception {
+        return mockMvc.perform(get("/order/1").accept(mediaType))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn()
+                .getResponse()
+                .getContentAsByteArray();
+    }
+}
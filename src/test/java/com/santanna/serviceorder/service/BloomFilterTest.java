@@ -0,0 +1,40 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.infrastructure.dedup.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an inserted value as absent")
+    void shouldNeverReportInsertedValueAsAbsent() {
+        var bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("ORD" + i);
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(bloomFilter.mightContain("ORD" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate close to the configured one")
+    void shouldKeepFalsePositiveRateCloseToConfigured() {
+        var bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put("ORD" + i);
+        }
+
+        int falsePositives = 0;
+        for (int i = 10_000; i < 110_000; i++) {
+            if (bloomFilter.mightContain("ORD" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives / 100_000.0 < 0.02, "False positive rate too high: " + falsePositives);
+    }
+}
@@ -0,0 +1,128 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.infrastructure.archive.OrderArchiver;
+import com.santanna.serviceorder.infrastructure.cache.OrderSearchCache;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.infrastructure.metrics.OrderStatusCounters;
+import com.santanna.serviceorder.infrastructure.repository.ArchivedOrderRepository;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderArchiverTest {
+    private static final int CHUNK_SIZE = 3;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private ArchivedOrderRepository archivedOrderRepository;
+
+    @Mock
+    private OrderStatusCounters orderStatusCounters;
+
+    @Mock
+    private OrderSearchCache orderSearchCache;
+
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OrderArchiver orderArchiver;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        orderArchiver = new OrderArchiver(orderRepository, archivedOrderRepository, orderStatusCounters, orderSearchCache,
+                orderMetrics, loggerUtils, transactionManager, 30, CHUNK_SIZE, 5, 0);
+    }
+
+    @Test
+    @DisplayName("Should move delivered orders in chunks until a short chunk is found")
+    void shouldArchiveInChunksUntilShortChunk() {
+        when(orderRepository.lockArchivable(eq(OrderStatus.DELIVERED), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(orders(1, 3), orders(4, 1));
+
+        orderArchiver.archiveDeliveredOrders();
+
+        verify(archivedOrderRepository).copyFromOrders(eq(List.of(1L, 2L, 3L)), any(LocalDateTime.class));
+        verify(orderRepository).deleteAllByIdInBatch(List.of(1L, 2L, 3L));
+        verify(archivedOrderRepository).copyFromOrders(eq(List.of(4L)), any(LocalDateTime.class));
+        verify(orderRepository).deleteAllByIdInBatch(List.of(4L));
+        verify(orderStatusCounters).archived(OrderStatus.DELIVERED, 3);
+        verify(orderStatusCounters).archived(OrderStatus.DELIVERED, 1);
+        verify(orderSearchCache, times(2)).invalidate(OrderStatus.DELIVERED);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    @DisplayName("Should stop after the maximum number of chunks per run")
+    void shouldStopAfterMaxChunksPerRun() {
+        when(orderRepository.lockArchivable(eq(OrderStatus.DELIVERED), any(LocalDateTime.class), any(Pageable.class)))
+                .thenAnswer(invocation -> orders(1, CHUNK_SIZE));
+
+        orderArchiver.archiveDeliveredOrders();
+
+        verify(orderRepository, times(5)).lockArchivable(eq(OrderStatus.DELIVERED), any(LocalDateTime.class), any(Pageable.class));
+        verify(orderMetrics, times(5)).archived(CHUNK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should do nothing when no delivered order is old enough")
+    void shouldSkipWhenNothingToArchive() {
+        when(orderRepository.lockArchivable(eq(OrderStatus.DELIVERED), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        orderArchiver.archiveDeliveredOrders();
+
+        verify(archivedOrderRepository, never()).copyFromOrders(anyCollection(), any());
+        verify(orderRepository, never()).deleteAllByIdInBatch(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should roll back the chunk and stop the run when the move fails")
+    void shouldRollBackAndStopOnFailure() {
+        when(orderRepository.lockArchivable(eq(OrderStatus.DELIVERED), any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(orders(1, CHUNK_SIZE));
+        when(archivedOrderRepository.copyFromOrders(anyCollection(), any(LocalDateTime.class)))
+                .thenThrow(new CannotAcquireLockException("lock wait timeout"));
+
+        orderArchiver.archiveDeliveredOrders();
+
+        verify(transactionManager).rollback(any());
+        verify(orderRepository, never()).deleteAllByIdInBatch(anyCollection());
+        verify(orderRepository, times(1)).lockArchivable(eq(OrderStatus.DELIVERED), any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    private List<Order> orders(long firstId, int count) {
+        return LongStream.range(firstId, firstId + count)
+                .mapToObj(id -> Order.builder().id(id).orderStatus(OrderStatus.DELIVERED).build())
+                .toList();
+    }
+}
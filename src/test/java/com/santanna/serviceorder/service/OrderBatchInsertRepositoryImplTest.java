@@ -0,0 +1,139 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.infrastructure.repository.OrderBatchInsertRepositoryImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderBatchInsertRepositoryImplTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 10, 30, 15);
+
+    private DataSource dataSource;
+    private EntityManagerFactory entityManagerFactory;
+    private JdbcTemplate jdbcTemplate;
+    private OrderBatchInsertRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:orders-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        var factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.santanna.serviceorder.domain.model");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new OrderBatchInsertRepositoryImpl(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Should insert every order and assign generated ids and the initial version in input order")
+    void shouldInsertBatchAndAssignIds() {
+        var orders = List.of(order("ORD1", 1), order("ORD2", 2), order("ORD3", 3));
+
+        var saved = repository.insertAll(orders);
+
+        assertSame(orders, saved);
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class));
+        for (int i = 0; i < saved.size(); i++) {
+            var order = saved.get(i);
+            assertNotNull(order.getId());
+            assertEquals(0L, order.getVersion());
+            if (i > 0) {
+                assertTrue(order.getId() > saved.get(i - 1).getId());
+            }
+            Map<String, Object> row = jdbcTemplate.queryForMap(
+                    "SELECT order_number, created_at, version FROM orders WHERE id = ?", order.getId());
+            assertEquals(order.getOrderNumber(), row.get("order_number"));
+            assertEquals(CREATED_AT, ((Timestamp) row.get("created_at")).toLocalDateTime());
+            assertEquals(0L, ((Number) row.get("version")).longValue());
+        }
+    }
+
+    @Test
+    @DisplayName("Should insert rows that JPA reads back as managed orders")
+    void shouldReadInsertedOrdersThroughJpa() {
+        var saved = repository.insertAll(List.of(order("ORD1", 2), order("ORD2", 5)));
+
+        var entityManager = entityManagerFactory.createEntityManager();
+        try {
+            for (var order : saved) {
+                var found = entityManager.find(Order.class, order.getId());
+                assertNotNull(found);
+                assertEquals(order.getOrderNumber(), found.getOrderNumber());
+                assertEquals("Produto Teste", found.getProductName());
+                assertEquals(order.getQuantity(), found.getQuantity());
+                assertEquals(0, order.getTotalValue().compareTo(found.getTotalValue()));
+                assertEquals(OrderStatus.RECEIVED, found.getOrderStatus());
+                assertEquals(CREATED_AT, found.getCreatedAt());
+                assertEquals(0L, found.getVersion());
+            }
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Should leave no rows of a batch that hits a duplicate order number inside a transaction")
+    void shouldRollBackWholeBatchOnDuplicate() {
+        repository.insertAll(List.of(order("ORD2", 1)));
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThrows(DuplicateKeyException.class,
+                    () -> repository.insertAll(List.of(order("ORD1", 1), order("ORD2", 1), order("ORD3", 1))));
+            assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class));
+        });
+
+        assertEquals(List.of("ORD2"), jdbcTemplate.queryForList("SELECT order_number FROM orders", String.class));
+    }
+
+    @Test
+    @DisplayName("Should return an empty batch without touching the database")
+    void shouldSkipEmptyBatch() {
+        assertTrue(repository.insertAll(List.of()).isEmpty());
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Integer.class));
+    }
+
+    private Order order(String orderNumber, int quantity) {
+        return Order.builder()
+                .orderNumber(orderNumber)
+                .productName("Produto Teste")
+                .quantity(quantity)
+                .totalValue(new BigDecimal("10.00").multiply(BigDecimal.valueOf(quantity)))
+                .orderStatus(OrderStatus.RECEIVED)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
@@ -0,0 +1,157 @@
+package com.santanna.serviceorder.service;
+
+import com.rabbitmq.client.Channel;
+import com.santanna.serviceorder.domain.dto.OrderBatchResultDto;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.service.OrderService;
+import com.santanna.serviceorder.infrastructure.messaging.OrderBatchMessageConsumer;
+import com.santanna.serviceorder.infrastructure.messaging.OrderIngestionPublisher;
+import com.santanna.serviceorder.infrastructure.messaging.OrderIngestionTracker;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+class OrderBatchMessageConsumerTest {
+    private OrderBatchMessageConsumer orderBatchMessageConsumer;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    @Mock
+    private Channel channel;
+
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Mock
+    private OrderIngestionTracker orderIngestionTracker;
+
+    private final Jackson2JsonMessageConverter messageConverter = new Jackson2JsonMessageConverter();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        orderBatchMessageConsumer = new OrderBatchMessageConsumer(orderService, validator, messageConverter, loggerUtils, orderMetrics,
+                orderIngestionTracker);
+    }
+
+    @Test
+    @DisplayName("Should ack created and duplicate orders and reject invalid ones individually")
+    void shouldAckAndRejectEachMessageIndividually() throws Exception {
+        var created = toMessage(request("ORD1"), 1L);
+        var invalid = toMessage(request(""), 2L);
+        var duplicate = toMessage(request("ORD2"), 3L);
+
+        when(orderService.createOrders(anyList())).thenReturn(new OrderBatchResultDto(
+                List.of(OrderResponseDto.builder().orderNumber("ORD1").build()),
+                List.of("ORD2")));
+
+        orderBatchMessageConsumer.receiveOrders(List.of(created, invalid, duplicate), channel);
+
+        verify(orderService, times(1)).createOrders(anyList());
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicReject(2L, false);
+        verify(channel).basicAck(3L, false);
+        verify(orderMetrics, times(1)).validationRejected();
+        verify(orderMetrics, times(1)).deadLettered();
+    }
+
+    @Test
+    @DisplayName("Should ack a redelivered batch of already created orders as idempotent without dead-lettering")
+    void shouldAckRedeliveredDuplicatesAsIdempotent() throws Exception {
+        var first = toMessage(request("ORD1"), 1L, "tracking-1");
+        var second = toMessage(request("ORD2"), 2L, "tracking-2");
+
+        when(orderService.createOrders(anyList())).thenReturn(new OrderBatchResultDto(List.of(), List.of("ORD1", "ORD2")));
+
+        orderBatchMessageConsumer.receiveOrders(List.of(first, second), channel);
+
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(2L, false);
+        verify(channel, never()).basicReject(anyLong(), anyBoolean());
+        verify(orderMetrics, never()).deadLettered();
+        verify(orderIngestionTracker).duplicate("tracking-1");
+        verify(orderIngestionTracker).duplicate("tracking-2");
+    }
+
+    @Test
+    @DisplayName("Should reject every valid message when the batch insert fails")
+    void shouldRejectBatchWhenPersistenceFails() throws Exception {
+        var first = toMessage(request("ORD1"), 1L, "tracking-1");
+        var second = toMessage(request("ORD2"), 2L, "tracking-2");
+
+        when(orderService.createOrders(anyList())).thenThrow(new RuntimeException("Unexpected error"));
+
+        orderBatchMessageConsumer.receiveOrders(List.of(first, second), channel);
+
+        verify(channel).basicReject(1L, false);
+        verify(channel).basicReject(2L, false);
+        verify(channel, never()).basicAck(anyLong(), anyBoolean());
+        verify(orderIngestionTracker).rejected("tracking-1", "Unexpected error");
+        verify(orderIngestionTracker).rejected("tracking-2", "Unexpected error");
+    }
+
+    @Test
+    @DisplayName("Should record the ingestion outcome of each tracked message")
+    void shouldTrackEachMessageOutcome() throws Exception {
+        var created = toMessage(request("ORD1"), 1L, "tracking-created");
+        var invalid = toMessage(request(""), 2L, "tracking-invalid");
+        var duplicate = toMessage(request("ORD2"), 3L, "tracking-duplicate");
+        var untracked = toMessage(request("ORD3"), 4L);
+
+        when(orderService.createOrders(anyList())).thenReturn(new OrderBatchResultDto(
+                List.of(OrderResponseDto.builder().id(7L).orderNumber("ORD1").build(),
+                        OrderResponseDto.builder().id(8L).orderNumber("ORD3").build()),
+                List.of("ORD2")));
+
+        orderBatchMessageConsumer.receiveOrders(List.of(created, invalid, duplicate, untracked), channel);
+
+        verify(orderIngestionTracker).created("tracking-created", 7L);
+        verify(orderIngestionTracker).rejected(eq("tracking-invalid"), startsWith("Validation errors"));
+        verify(orderIngestionTracker).duplicate("tracking-duplicate");
+        verify(orderIngestionTracker).created(null, 8L);
+        verify(channel).basicAck(1L, false);
+        verify(channel).basicAck(4L, false);
+    }
+
+    private OrderRequestDto request(String orderNumber) {
+        return OrderRequestDto.builder()
+                .orderNumber(orderNumber)
+                .productName("Produto Teste")
+                .quantity(3)
+                .unitPrice(new BigDecimal("100.00"))
+                .build();
+    }
+
+    private Message toMessage(OrderRequestDto orderRequestDto, long deliveryTag) {
+        return toMessage(orderRequestDto, deliveryTag, null);
+    }
+
+    private Message toMessage(OrderRequestDto orderRequestDto, long deliveryTag, String trackingId) {
+        MessageProperties properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        if (trackingId != null) {
+            properties.setHeader(OrderIngestionPublisher.TRACKING_ID_HEADER, trackingId);
+        }
+        return messageConverter.toMessage(orderRequestDto, properties);
+    }
+}
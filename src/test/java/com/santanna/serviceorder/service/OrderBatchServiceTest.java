@@ -0,0 +1,102 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.app.handler.model.BadRequestException;
+import com.santanna.serviceorder.domain.OrderBatchItemStatus;
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderBatchResultDto;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.service.OrderBatchService;
+import com.santanna.serviceorder.domain.service.OrderService;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderBatchServiceTest {
+    private static final int MAX_BATCH_SIZE = 3;
+
+    @Mock
+    private OrderService orderService;
+
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    private OrderBatchService orderBatchService;
+
+    @BeforeEach
+    void setUp() {
+        orderBatchService = new OrderBatchService(orderService, Validation.buildDefaultValidatorFactory().getValidator(),
+                orderMetrics, loggerUtils, MAX_BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("Should report created, duplicate and invalid items in request order")
+    void shouldReportResultPerItem() {
+        var first = request("ORD1");
+        var invalid = OrderRequestDto.builder().orderNumber("ORD2").productName("").quantity(0).unitPrice(BigDecimal.ONE).build();
+        var repeated = request("ORD1");
+        var created = OrderResponseDto.builder().id(10L).orderNumber("ORD1").status(OrderStatus.PROCESSED).build();
+        when(orderService.createOrders(List.of(first, repeated)))
+                .thenReturn(new OrderBatchResultDto(List.of(created), List.of("ORD1")));
+
+        var result = orderBatchService.createOrders(List.of(first, invalid, repeated));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(1, result.getDuplicates());
+        assertEquals(1, result.getInvalid());
+        assertEquals(OrderBatchItemStatus.CREATED, result.getResults().get(0).getStatus());
+        assertEquals(created, result.getResults().get(0).getOrder());
+        assertEquals(OrderBatchItemStatus.INVALID, result.getResults().get(1).getStatus());
+        assertEquals(1, result.getResults().get(1).getIndex());
+        assertNotNull(result.getResults().get(1).getMessage());
+        assertEquals(OrderBatchItemStatus.DUPLICATE, result.getResults().get(2).getStatus());
+        assertNull(result.getResults().get(2).getOrder());
+        verify(orderMetrics, times(1)).validationRejected();
+    }
+
+    @Test
+    @DisplayName("Should not touch the database when every item is invalid")
+    void shouldSkipPersistenceWhenAllItemsInvalid() {
+        var invalid = OrderRequestDto.builder().orderNumber("").productName("").quantity(0).unitPrice(BigDecimal.ZERO).build();
+
+        var result = orderBatchService.createOrders(List.of(invalid));
+
+        assertEquals(1, result.getInvalid());
+        verifyNoInteractions(orderService);
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized batches")
+    void shouldRejectEmptyAndOversizedBatches() {
+        assertThrows(BadRequestException.class, () -> orderBatchService.createOrders(List.of()));
+        assertThrows(BadRequestException.class,
+                () -> orderBatchService.createOrders(Collections.nCopies(MAX_BATCH_SIZE + 1, request("ORD1"))));
+        verifyNoInteractions(orderService);
+    }
+
+    private OrderRequestDto request(String orderNumber) {
+        return OrderRequestDto.builder()
+                .orderNumber(orderNumber)
+                .productName("Produto Teste")
+                .quantity(2)
+                .unitPrice(new BigDecimal("10.00"))
+                .build();
+    }
+}
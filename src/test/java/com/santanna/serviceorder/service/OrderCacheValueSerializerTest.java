@@ -0,0 +1,99 @@
+package com.santanna.serviceorder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.infrastructure.cache.OrderCacheValueSerializer;
+import com.santanna.serviceorder.infrastructure.config.RedisConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderCacheValueSerializerTest {
+    private final OrderCacheValueSerializer jsonSerializer =
+            new OrderCacheValueSerializer(RedisConfig.cacheValueSerializer(new ObjectMapper()), false);
+    private final OrderCacheValueSerializer binarySerializer =
+            new OrderCacheValueSerializer(RedisConfig.cacheValueSerializer(new ObjectMapper()), true);
+
+    private final OrderResponseDto order = OrderResponseDto.builder()
+            .id(1L)
+            .orderNumber("ORD12345")
+            .productName("Produto Teste")
+            .quantity(3)
+            .totalValue(new BigDecimal("300.00"))
+            .status(OrderStatus.PROCESSED)
+            .createdAt(LocalDateTime.of(2024, 1, 1, 10, 30, 15, 123_000_000))
+            .version(4L)
+            .build();
+
+    @Test
+    @DisplayName("Should round trip order through the binary format")
+    void shouldRoundTripBinaryFormat() {
+        byte[] bytes = binarySerializer.serialize(order);
+
+        assertEquals(order, binarySerializer.deserialize(bytes));
+        assertTrue(bytes.length < jsonSerializer.serialize(order).length);
+    }
+
+    @Test
+    @DisplayName("Should read entries written in the previous JSON format")
+    void shouldReadLegacyJsonEntries() {
+        byte[] legacy = jsonSerializer.serialize(order);
+
+        assertEquals(order, binarySerializer.deserialize(legacy));
+    }
+
+    @Test
+    @DisplayName("Should round trip orders with missing fields")
+    void shouldRoundTripPartialOrders() {
+        var partial = OrderResponseDto.builder().id(2L).build();
+
+        assertEquals(partial, binarySerializer.deserialize(binarySerializer.serialize(partial)));
+    }
+
+    @Test
+    @DisplayName("Should round trip total values with a scale above one byte and a long unscaled value")
+    void shouldRoundTripLargeHighScaleTotalValues() {
+        var large = new BigDecimal(new BigInteger("9".repeat(700)), 200);
+        var negativeScale = new BigDecimal(new BigInteger("123456789"), -300);
+        assertTrue(large.unscaledValue().toByteArray().length > 255);
+
+        for (BigDecimal totalValue : new BigDecimal[]{large, negativeScale}) {
+            var value = OrderResponseDto.builder().id(3L).totalValue(totalValue).version(1L).build();
+
+            var decoded = (OrderResponseDto) binarySerializer.deserialize(binarySerializer.serialize(value));
+
+            assertEquals(totalValue, decoded.getTotalValue());
+            assertEquals(totalValue.scale(), decoded.getTotalValue().scale());
+            assertEquals(value, decoded);
+        }
+    }
+
+    @Test
+    @DisplayName("Should read entries written in the previous one-byte binary layout")
+    void shouldReadPreviousBinaryEntries() throws IOException {
+        var buffer = new ByteArrayOutputStream();
+        try (var out = new DataOutputStream(buffer)) {
+            byte[] unscaled = BigInteger.valueOf(30000).toByteArray();
+            out.writeByte(0x01);
+            out.writeByte(1 | 1 << 4);
+            out.writeLong(1L);
+            out.writeByte(2);
+            out.writeByte(unscaled.length);
+            out.write(unscaled);
+        }
+
+        var decoded = (OrderResponseDto) binarySerializer.deserialize(buffer.toByteArray());
+
+        assertEquals(1L, decoded.getId());
+        assertEquals(new BigDecimal("300.00"), decoded.getTotalValue());
+    }
+}
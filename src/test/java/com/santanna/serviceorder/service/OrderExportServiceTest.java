@@ -0,0 +1,86 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.domain.OrderExportFormat;
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.service.OrderExportService;
+import com.santanna.serviceorder.domain.service.OrderService;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderExportServiceTest {
+    private OrderExportService orderExportService;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        var orderService = new OrderService(loggerUtils, orderRepository, null, null, null, null, null, null);
+        orderExportService = new OrderExportService(orderRepository, orderService, entityManager, loggerUtils);
+
+        order = Order.builder()
+                .id(1L)
+                .orderNumber("ORD12345")
+                .productName("Produto, \"Teste\"")
+                .quantity(3)
+                .totalValue(new BigDecimal("300.00"))
+                .orderStatus(OrderStatus.PROCESSED)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should export orders as CSV and detach each entity")
+    void shouldExportOrdersAsCsv() throws Exception {
+        when(orderRepository.streamForExport(OrderStatus.PROCESSED, null)).thenReturn(Stream.of(order));
+        var outputStream = new ByteArrayOutputStream();
+
+        long exported = orderExportService.exportOrders(OrderExportFormat.CSV, OrderStatus.PROCESSED, null, outputStream);
+
+        assertEquals(1, exported);
+        assertEquals("id,orderNumber,productName,quantity,totalValue,status,createdAt\n" +
+                        "1,ORD12345,\"Produto, \"\"Teste\"\"\",3,300.00,PROCESSED,2024-01-01T10:00\n",
+                outputStream.toString(StandardCharsets.UTF_8));
+        verify(entityManager, times(1)).detach(order);
+    }
+
+    @Test
+    @DisplayName("Should export orders as NDJSON")
+    void shouldExportOrdersAsNdjson() throws Exception {
+        when(orderRepository.streamForExport(null, null)).thenReturn(Stream.of(order, order));
+        var outputStream = new ByteArrayOutputStream();
+
+        long exported = orderExportService.exportOrders(OrderExportFormat.NDJSON, null, null, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"orderNumber\":\"ORD12345\""));
+        assertTrue(lines[0].contains("\"createdAt\":\"2024-01-01T10:00:00\""));
+    }
+}
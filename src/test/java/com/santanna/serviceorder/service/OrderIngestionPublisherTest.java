@@ -0,0 +1,91 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.app.handler.model.InternalServerErrorException;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.infrastructure.config.RabbitMqConfig;
+import com.santanna.serviceorder.infrastructure.messaging.OrderIngestionPublisher;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderIngestionPublisherTest {
+    private OrderIngestionPublisher orderIngestionPublisher;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private RabbitOperations rabbitOperations;
+
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation ->
+                invocation.<RabbitOperations.OperationsCallback<Object>>getArgument(0).doInRabbit(rabbitOperations));
+        orderIngestionPublisher = new OrderIngestionPublisher(rabbitTemplate, loggerUtils, false, 100, 10, 1000);
+        orderIngestionPublisher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderIngestionPublisher.stop();
+    }
+
+    @Test
+    @DisplayName("Should complete once the broker confirms the message and tag it with the tracking id")
+    void shouldCompleteWhenBrokerConfirms() throws Exception {
+        var headers = new MessageProperties();
+        doAnswer(invocation -> {
+            MessagePostProcessor postProcessor = invocation.getArgument(3);
+            postProcessor.postProcessMessage(new Message(new byte[0], headers));
+            invocation.<CorrelationData>getArgument(4).getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitOperations).convertAndSend(eq(""), eq(RabbitMqConfig.ORDER_QUEUE), any(Object.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        orderIngestionPublisher.publish(request(), "tracking-1").get(1, TimeUnit.SECONDS);
+
+        assertEquals("tracking-1", headers.getHeader(OrderIngestionPublisher.TRACKING_ID_HEADER));
+    }
+
+    @Test
+    @DisplayName("Should fail when the broker rejects the message")
+    void shouldFailWhenBrokerRejects() {
+        doAnswer(invocation -> {
+            invocation.<CorrelationData>getArgument(4).getFuture().complete(new CorrelationData.Confirm(false, "nack"));
+            return null;
+        }).when(rabbitOperations).convertAndSend(anyString(), anyString(), any(Object.class), any(MessagePostProcessor.class), any(CorrelationData.class));
+
+        var exception = assertThrows(ExecutionException.class,
+                () -> orderIngestionPublisher.publish(request(), "tracking-2").get(1, TimeUnit.SECONDS));
+        assertInstanceOf(InternalServerErrorException.class, exception.getCause());
+    }
+
+    private OrderRequestDto request() {
+        return OrderRequestDto.builder()
+                .orderNumber("ORD1")
+                .productName("Produto Teste")
+                .quantity(1)
+                .unitPrice(new BigDecimal("10.00"))
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.app.handler.model.InternalServerErrorException;
+import com.santanna.serviceorder.domain.OrderIngestionStatus;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.domain.service.OrderIngestionService;
+import com.santanna.serviceorder.infrastructure.messaging.OrderIngestionPublisher;
+import com.santanna.serviceorder.infrastructure.messaging.OrderIngestionTracker;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class OrderIngestionServiceTest {
+    @InjectMocks
+    private OrderIngestionService orderIngestionService;
+
+    @Mock
+    private OrderIngestionPublisher orderIngestionPublisher;
+
+    @Mock
+    private OrderIngestionTracker orderIngestionTracker;
+
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @DisplayName("Should record the order as accepted and keep it accepted once the broker confirms")
+    void shouldKeepAcceptedWhenPublishIsConfirmed() throws Exception {
+        when(orderIngestionPublisher.publish(any(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+
+        var status = orderIngestionService.ingestOrder(orderRequest()).get();
+
+        assertEquals(OrderIngestionStatus.ACCEPTED, status.getStatus());
+        assertEquals("ORD1", status.getOrderNumber());
+        verify(orderIngestionTracker).accepted(status.getTrackingId(), "ORD1");
+        verify(orderIngestionTracker, never()).notEnqueued(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should mark the tracking record as not enqueued when the publish fails")
+    void shouldMarkNotEnqueuedWhenPublishFails() {
+        when(orderIngestionPublisher.publish(any(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new InternalServerErrorException("Order ingestion is temporarily unavailable.")));
+
+        var result = orderIngestionService.ingestOrder(orderRequest());
+
+        var ex = assertThrows(ExecutionException.class, result::get);
+        assertInstanceOf(InternalServerErrorException.class, ex.getCause());
+        var trackingId = ArgumentCaptor.forClass(String.class);
+        verify(orderIngestionTracker).accepted(trackingId.capture(), eq("ORD1"));
+        verify(orderIngestionTracker).notEnqueued(trackingId.getValue(), "Order ingestion is temporarily unavailable.");
+    }
+
+    @Test
+    @DisplayName("Should mark the tracking record as not enqueued when the publisher throws")
+    void shouldMarkNotEnqueuedWhenPublisherThrows() {
+        when(orderIngestionPublisher.publish(any(), anyString())).thenThrow(new IllegalStateException("Publisher stopped"));
+
+        assertThrows(IllegalStateException.class, () -> orderIngestionService.ingestOrder(orderRequest()));
+
+        var trackingId = ArgumentCaptor.forClass(String.class);
+        verify(orderIngestionTracker).accepted(trackingId.capture(), eq("ORD1"));
+        verify(orderIngestionTracker).notEnqueued(trackingId.getValue(), "Publisher stopped");
+    }
+
+    private OrderRequestDto orderRequest() {
+        return OrderRequestDto.builder()
+                .orderNumber("ORD1")
+                .productName("Produto Teste")
+                .quantity(1)
+                .unitPrice(new BigDecimal("10.00"))
+                .build();
+    }
+}
@@ -1,8 +1,13 @@
 package com.santanna.serviceorder.service;
 
+import com.santanna.serviceorder.app.handler.model.DuplicateOrderException;
 import com.santanna.serviceorder.domain.dto.OrderRequestDto;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
 import com.santanna.serviceorder.domain.service.OrderService;
+import com.santanna.serviceorder.infrastructure.messaging.OrderIngestionTracker;
 import com.santanna.serviceorder.infrastructure.messaging.OrderMessageConsumer;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.utils.LoggerUtils;
 import jakarta.validation.Validator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,6 +32,15 @@ class OrderMessageConsumerTest {
     @Mock
     private Validator validator;
 
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Mock
+    private OrderIngestionTracker orderIngestionTracker;
+
     private OrderRequestDto orderRequestDto;
 
     @BeforeEach
@@ -45,11 +59,23 @@ class OrderMessageConsumerTest {
     @DisplayName("Should process order successfully")
     void shouldProcessOrderSuccessfully() {
         when(validator.validate(orderRequestDto)).thenReturn(Collections.emptySet());
+        when(orderService.createOrder(orderRequestDto)).thenReturn(OrderResponseDto.builder().id(1L).build());
 
         assertDoesNotThrow(() -> orderMessageConsumer.receiveOrder(orderRequestDto));
         verify(orderService, times(1)).createOrder(orderRequestDto);
     }
 
+    @Test
+    @DisplayName("Should record ingestion status for tracked messages")
+    void shouldRecordIngestionStatusForTrackedMessages() {
+        when(validator.validate(orderRequestDto)).thenReturn(Collections.emptySet());
+        when(orderService.createOrder(orderRequestDto)).thenReturn(OrderResponseDto.builder().id(7L).build());
+
+        orderMessageConsumer.receiveOrder(orderRequestDto, "tracking-1");
+
+        verify(orderIngestionTracker, times(1)).created("tracking-1", 7L);
+    }
+
     @Test
     @DisplayName("Should throw AmqpRejectAndDontRequeueException on unexpected error")
     void shouldThrowAmqpRejectAndDontRequeueExceptionOnUnexpectedError() {
@@ -57,8 +83,20 @@ class OrderMessageConsumerTest {
         doThrow(new RuntimeException("Unexpected error"))
                 .when(orderService).createOrder(orderRequestDto);
 
-        var exception = assertThrows(AmqpRejectAndDontRequeueException.class, () -> orderMessageConsumer.receiveOrder(orderRequestDto));
+        var exception = assertThrows(AmqpRejectAndDontRequeueException.class, () -> orderMessageConsumer.receiveOrder(orderRequestDto, "tracking-2"));
         assertEquals("Erro crítico: Unexpected error", exception.getMessage());
+        verify(orderMetrics, times(1)).deadLettered();
+        verify(orderIngestionTracker, times(1)).rejected("tracking-2", "Unexpected error");
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("Should acknowledge duplicate order without dead-lettering")
+    void shouldAcknowledgeDuplicateOrderWithoutDeadLettering() {
+        when(validator.validate(orderRequestDto)).thenReturn(Collections.emptySet());
+        doThrow(new DuplicateOrderException("Order already exists"))
+                .when(orderService).createOrder(orderRequestDto);
+
+        assertDoesNotThrow(() -> orderMessageConsumer.receiveOrder(orderRequestDto));
+        verify(orderMetrics, never()).deadLettered();
+    }
+}
@@ -0,0 +1,98 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.domain.OrderEventType;
+import com.santanna.serviceorder.domain.model.OrderOutboxEvent;
+import com.santanna.serviceorder.infrastructure.repository.OrderOutboxBatchInsertRepositoryImpl;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderOutboxBatchInsertRepositoryImplTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 10, 30, 15);
+
+    private EntityManagerFactory entityManagerFactory;
+    private JdbcTemplate jdbcTemplate;
+    private OrderOutboxBatchInsertRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:outbox-" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1");
+        var factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.santanna.serviceorder.domain.model");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName()));
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        repository = new OrderOutboxBatchInsertRepositoryImpl(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        entityManagerFactory.close();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Should insert every outbox event as unpublished in input order")
+    void shouldInsertEventsAsUnpublished() {
+        repository.insertAll(List.of(event(1L, "{\"orderId\":1}"), event(2L, "{\"orderId\":2}"), event(null, "{}")));
+
+        var rows = jdbcTemplate.queryForList("SELECT order_id, event_type, payload, created_at, published_at FROM order_outbox ORDER BY id");
+        assertEquals(3, rows.size());
+        assertEquals(1L, ((Number) rows.get(0).get("order_id")).longValue());
+        assertEquals(2L, ((Number) rows.get(1).get("order_id")).longValue());
+        assertNull(rows.get(2).get("order_id"));
+        for (var row : rows) {
+            assertEquals(OrderEventType.ORDER_CREATED.name(), row.get("event_type"));
+            assertNotNull(row.get("created_at"));
+            assertNull(row.get("published_at"));
+        }
+        assertEquals("{\"orderId\":1}", rows.get(0).get("payload"));
+    }
+
+    @Test
+    @DisplayName("Should insert outbox rows that JPA reads back")
+    void shouldReadInsertedEventsThroughJpa() {
+        repository.insertAll(List.of(event(7L, "{\"orderId\":7}")));
+        Long id = jdbcTemplate.queryForObject("SELECT id FROM order_outbox", Long.class);
+
+        var entityManager = entityManagerFactory.createEntityManager();
+        try {
+            var found = entityManager.find(OrderOutboxEvent.class, id);
+            assertEquals(7L, found.getOrderId());
+            assertEquals(OrderEventType.ORDER_CREATED, found.getEventType());
+            assertEquals(CREATED_AT, found.getCreatedAt());
+            assertNull(found.getPublishedAt());
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    private OrderOutboxEvent event(Long orderId, String payload) {
+        return OrderOutboxEvent.builder()
+                .orderId(orderId)
+                .eventType(OrderEventType.ORDER_CREATED)
+                .payload(payload)
+                .createdAt(CREATED_AT)
+                .build();
+    }
+}
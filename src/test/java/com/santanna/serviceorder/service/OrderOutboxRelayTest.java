@@ -0,0 +1,114 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.domain.OrderEventType;
+import com.santanna.serviceorder.domain.model.OrderOutboxEvent;
+import com.santanna.serviceorder.infrastructure.config.RabbitMqConfig;
+import com.santanna.serviceorder.infrastructure.messaging.OrderOutboxRelay;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.infrastructure.repository.OrderOutboxRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OrderOutboxRelayTest {
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @Mock
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        orderOutboxRelay = new OrderOutboxRelay(orderOutboxRepository, rabbitTemplate, orderMetrics, loggerUtils, 200, 100, 60, 1000);
+    }
+
+    @Test
+    @DisplayName("Should mark only broker-confirmed events as published")
+    void shouldMarkOnlyConfirmedEventsAsPublished() {
+        when(orderOutboxRepository.lockNextPending(any(Pageable.class))).thenReturn(List.of(
+                event(1L, OrderEventType.ORDER_CREATED),
+                event(2L, OrderEventType.ORDER_STATUS_UPDATED)));
+        doAnswer(invocation -> {
+            CorrelationData correlationData = invocation.getArgument(3);
+            boolean ack = "1".equals(correlationData.getId());
+            correlationData.getFuture().complete(new CorrelationData.Confirm(ack, ack ? null : "nack"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        orderOutboxRelay.relayPendingEvents();
+
+        verify(rabbitTemplate).send(eq(RabbitMqConfig.ORDER_EVENTS_EXCHANGE), eq("order.created"), any(Message.class), any(CorrelationData.class));
+        verify(rabbitTemplate).send(eq(RabbitMqConfig.ORDER_EVENTS_EXCHANGE), eq("order.status.updated"), any(Message.class), any(CorrelationData.class));
+        verify(orderOutboxRepository).markPublished(eq(List.of(1L)), any(LocalDateTime.class));
+        verify(orderMetrics, times(1)).outboxDelivered(any(Duration.class));
+        verify(orderMetrics).outboxPublishFailed(1);
+    }
+
+    @Test
+    @DisplayName("Should keep events pending when the broker does not confirm in time")
+    void shouldKeepEventsPendingWithoutConfirm() {
+        when(orderOutboxRepository.lockNextPending(any(Pageable.class))).thenReturn(List.of(event(1L, OrderEventType.ORDER_DELETED)));
+
+        orderOutboxRelay.relayPendingEvents();
+
+        verify(orderOutboxRepository, never()).markPublished(anyCollection(), any(LocalDateTime.class));
+        verify(orderMetrics).outboxPublishFailed(1);
+    }
+
+    @Test
+    @DisplayName("Should report zero lag when there are no pending events")
+    void shouldReportZeroLagWhenNothingIsPending() {
+        when(orderOutboxRepository.lockNextPending(any(Pageable.class))).thenReturn(List.of());
+
+        orderOutboxRelay.relayPendingEvents();
+
+        verify(orderMetrics).outboxLag(Duration.ZERO);
+        verifyNoInteractions(rabbitTemplate);
+    }
+
+    @Test
+    @DisplayName("Should delete published events older than the retention in chunks")
+    void shouldDeletePublishedEventsInChunks() {
+        orderOutboxRelay = new OrderOutboxRelay(orderOutboxRepository, rabbitTemplate, orderMetrics, loggerUtils, 200, 100, 60, 2);
+        when(orderOutboxRepository.findPublishedIdsBefore(any(LocalDateTime.class), any(Pageable.class)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        orderOutboxRelay.cleanUpPublishedEvents();
+
+        verify(orderOutboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+        verify(orderOutboxRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(orderOutboxRepository, times(2)).findPublishedIdsBefore(any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    private OrderOutboxEvent event(Long id, OrderEventType eventType) {
+        return OrderOutboxEvent.builder()
+                .id(id)
+                .eventType(eventType)
+                .payload("{\"orderId\":" + id + "}")
+                .createdAt(LocalDateTime.now().minusSeconds(1))
+                .build();
+    }
+}
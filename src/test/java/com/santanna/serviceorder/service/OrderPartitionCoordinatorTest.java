@@ -0,0 +1,108 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.infrastructure.messaging.OrderMessageConsumer;
+import com.santanna.serviceorder.infrastructure.messaging.OrderPartitionCoordinator;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderPartitionCoordinatorTest {
+    private static final int PARTITIONS = 4;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ConnectionFactory connectionFactory;
+
+    @Mock
+    private OrderMessageConsumer orderMessageConsumer;
+
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    private final Map<Integer, SimpleMessageListenerContainer> containers = new HashMap<>();
+    private OrderPartitionCoordinator coordinator;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        doReturn(1L).when(redisTemplate).execute(any(RedisScript.class), anyList(), any(), any());
+
+        coordinator = new OrderPartitionCoordinator(connectionFactory, new Jackson2JsonMessageConverter(), orderMessageConsumer,
+                redisTemplate, loggerUtils, new SimpleMeterRegistry(), PARTITIONS, 50, 15000) {
+            @Override
+            protected SimpleMessageListenerContainer createContainer(int partition) {
+                return containers.computeIfAbsent(partition, ignored -> mock(SimpleMessageListenerContainer.class));
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("Should take only its fair share of partitions when other instances are alive")
+    void shouldTakeFairShareOfPartitions() {
+        when(zSetOperations.zCard(anyString())).thenReturn(2L);
+
+        coordinator.start();
+
+        assertEquals(2, coordinator.getOwnedPartitions().size());
+        coordinator.getOwnedPartitions().forEach(partition -> verify(containers.get(partition)).start());
+    }
+
+    @Test
+    @DisplayName("Should grow and shrink owned partitions as instances leave and join")
+    void shouldRebalanceWhenMembershipChanges() {
+        when(zSetOperations.zCard(anyString())).thenReturn(2L, 1L, 4L);
+
+        coordinator.start();
+        coordinator.rebalance();
+        assertEquals(PARTITIONS, coordinator.getOwnedPartitions().size());
+
+        coordinator.rebalance();
+        List<Integer> owned = coordinator.getOwnedPartitions();
+        assertEquals(1, owned.size());
+        containers.entrySet().stream()
+                .filter(entry -> !owned.contains(entry.getKey()))
+                .forEach(entry -> verify(entry.getValue()).stop());
+    }
+
+    @Test
+    @DisplayName("Should skip partitions whose lease is held by another instance")
+    void shouldSkipPartitionsLeasedByOthers() {
+        when(zSetOperations.zCard(anyString())).thenReturn(1L);
+        when(valueOperations.setIfAbsent(eq("order:partitions:lease:0"), anyString(), any(Duration.class))).thenReturn(false);
+
+        coordinator.start();
+
+        assertFalse(coordinator.getOwnedPartitions().contains(0));
+        assertEquals(PARTITIONS - 1, coordinator.getOwnedPartitions().size());
+    }
+}
@@ -0,0 +1,127 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.app.handler.model.BadRequestException;
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.domain.dto.OrderSearchCriteriaDto;
+import com.santanna.serviceorder.domain.service.OrderSearchService;
+import com.santanna.serviceorder.infrastructure.cache.OrderSearchCache;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderSearchServiceTest {
+    private static final String DELIVERED_GENERATION = "order:search:generation:DELIVERED";
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    private OrderSearchCache orderSearchCache;
+    private OrderSearchService orderSearchService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        orderSearchCache = new OrderSearchCache(new ConcurrentMapCacheManager(), redisTemplate, loggerUtils);
+        orderSearchService = new OrderSearchService(orderRepository, orderSearchCache, loggerUtils);
+    }
+
+    @Test
+    @DisplayName("Should fetch one extra row to detect the next page")
+    void shouldDetectNextPage() {
+        var criteria = OrderSearchCriteriaDto.builder().status(OrderStatus.DELIVERED).build();
+        when(orderRepository.search(criteria, 4, 3)).thenReturn(List.of(order(1L), order(2L), order(3L)));
+
+        var result = orderSearchService.search(criteria, 2, 2);
+
+        assertEquals(2, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(2, result.getPage());
+    }
+
+    @Test
+    @DisplayName("Should serve repeated searches from the cache until the status generation changes")
+    void shouldCacheUntilStatusGenerationChanges() {
+        var criteria = OrderSearchCriteriaDto.builder()
+                .status(OrderStatus.DELIVERED)
+                .productNamePrefix("Prod")
+                .build();
+        when(orderRepository.search(criteria, 0, 21)).thenReturn(List.of(order(1L)));
+        when(valueOperations.get(DELIVERED_GENERATION)).thenReturn("1", "1", "2");
+
+        orderSearchService.search(criteria, 0, 20);
+        orderSearchService.search(criteria, 0, 20);
+        verify(orderRepository, times(1)).search(criteria, 0, 21);
+
+        orderSearchCache.invalidate(OrderStatus.DELIVERED);
+        orderSearchService.search(criteria, 0, 20);
+
+        verify(valueOperations).increment("order:search:generation:DELIVERED");
+        verify(valueOperations).increment("order:search:generation:ANY");
+        verify(orderRepository, times(2)).search(criteria, 0, 21);
+    }
+
+    @Test
+    @DisplayName("Should query the database directly when the generation cannot be read")
+    void shouldBypassCacheWhenRedisFails() {
+        var criteria = OrderSearchCriteriaDto.builder().status(OrderStatus.DELIVERED).build();
+        when(valueOperations.get(DELIVERED_GENERATION)).thenThrow(new RedisConnectionFailureException("down"));
+        when(orderRepository.search(criteria, 0, 21)).thenReturn(List.of(order(1L)));
+
+        orderSearchService.search(criteria, 0, 20);
+        orderSearchService.search(criteria, 0, 20);
+
+        verify(orderRepository, times(2)).search(criteria, 0, 21);
+    }
+
+    @Test
+    @DisplayName("Should reject inverted ranges and invalid page sizes")
+    void shouldRejectInvalidCriteria() {
+        var invertedDates = OrderSearchCriteriaDto.builder()
+                .createdFrom(LocalDateTime.of(2024, 2, 1, 0, 0))
+                .createdTo(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+        var invertedValues = OrderSearchCriteriaDto.builder()
+                .minTotalValue(new BigDecimal("100.00"))
+                .maxTotalValue(new BigDecimal("10.00"))
+                .build();
+
+        assertThrows(BadRequestException.class, () -> orderSearchService.search(invertedDates, 0, 20));
+        assertThrows(BadRequestException.class, () -> orderSearchService.search(invertedValues, 0, 20));
+        assertThrows(BadRequestException.class, () -> orderSearchService.search(new OrderSearchCriteriaDto(), 0, 101));
+        assertThrows(BadRequestException.class, () -> orderSearchService.search(new OrderSearchCriteriaDto(), -1, 20));
+        verify(orderRepository, never()).search(any(), anyInt(), anyInt());
+    }
+
+    private OrderResponseDto order(Long id) {
+        return OrderResponseDto.builder().id(id).status(OrderStatus.DELIVERED).build();
+    }
+}
@@ -1,10 +1,18 @@
 package com.santanna.serviceorder.service;
 
+import com.santanna.serviceorder.domain.OrderStatus;
 import com.santanna.serviceorder.domain.model.Order;
+import com.santanna.serviceorder.domain.dto.OrderRequestDto;
 import com.santanna.serviceorder.domain.dto.OrderResponseDto;
 import com.santanna.serviceorder.app.handler.model.NotFoundException;
+import com.santanna.serviceorder.domain.service.OrderOutboxService;
 import com.santanna.serviceorder.domain.service.OrderService;
+import com.santanna.serviceorder.infrastructure.cache.OrderSearchCache;
+import com.santanna.serviceorder.infrastructure.dedup.OrderNumberDeduplicator;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.infrastructure.metrics.OrderStatusCounters;
 import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,13 +22,15 @@ import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
+import java.math.BigDecimal;
 import java.util.Objects;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
-@SpringJUnitConfig(classes = {OrderService.class, ConcurrentMapCacheManager.class})
+@SpringJUnitConfig(classes = {OrderService.class, LoggerUtils.class, ConcurrentMapCacheManager.class})
 @EnableCaching
 public class OrderServiceCacheTest {
     @Autowired
@@ -29,6 +39,21 @@ public class OrderServiceCacheTest {
     @MockBean
     private OrderRepository orderRepository;
 
+    @MockBean
+    private OrderMetrics orderMetrics;
+
+    @MockBean
+    private OrderOutboxService orderOutboxService;
+
+    @MockBean
+    private OrderNumberDeduplicator orderNumberDeduplicator;
+
+    @MockBean
+    private OrderStatusCounters orderStatusCounters;
+
+    @MockBean
+    private OrderSearchCache orderSearchCache;
+
     @Autowired
     private CacheManager cacheManager;
 
@@ -36,12 +61,17 @@ public class OrderServiceCacheTest {
 
     @BeforeEach
     void setUp() {
+        Objects.requireNonNull(cacheManager.getCache("orders")).clear();
+        Objects.requireNonNull(cacheManager.getCache("orders-missing")).clear();
+
         Order mockOrder = new Order();
         mockOrder.setId(ORDER_ID);
+        mockOrder.setVersion(0L);
 
         OrderResponseDto mockResponse = new OrderResponseDto();
         mockResponse.setId(ORDER_ID);
         when(orderRepository.findById(ORDER_ID)).thenReturn(Optional.of(mockOrder));
+        when(orderRepository.findResponseById(ORDER_ID)).thenReturn(Optional.of(mockResponse));
     }
 
     @Test
@@ -54,7 +84,7 @@ public class OrderServiceCacheTest {
         OrderResponseDto response2 = orderService.getOrderById(ORDER_ID);
         assertThat(response2).isEqualTo(response1);
 
-        verify(orderRepository, times(1)).findById(ORDER_ID);
+        verify(orderRepository, times(1)).findResponseById(ORDER_ID);
 
 
         var cachedValue = Objects.requireNonNull(cacheManager.getCache("orders")).get(ORDER_ID, OrderResponseDto.class);
@@ -65,7 +95,7 @@ public class OrderServiceCacheTest {
     @Test
     void shouldThrowExceptionWhenOrderNotFound() {
         Long invalidOrderId = 99L;
-        when(orderRepository.findById(invalidOrderId)).thenReturn(Optional.empty());
+        when(orderRepository.findResponseById(invalidOrderId)).thenReturn(Optional.empty());
 
         try {
             orderService.getOrderById(invalidOrderId);
@@ -73,6 +103,67 @@ public class OrderServiceCacheTest {
             assertThat(ex.getMessage()).isEqualTo("Order not found with ID: " + invalidOrderId);
         }
 
-        verify(orderRepository, times(1)).findById(invalidOrderId);
+        verify(orderRepository, times(1)).findResponseById(invalidOrderId);
+    }
+
+    @Test
+    void shouldWriteThroughUpdatedOrderWithoutClearingOtherEntries() {
+        OrderResponseDto otherOrder = OrderResponseDto.builder().id(2L).build();
+        when(orderRepository.findResponseById(2L)).thenReturn(Optional.of(otherOrder));
+        when(orderRepository.updateStatusIfVersion(ORDER_ID, OrderStatus.DELIVERED, 0L)).thenReturn(1);
+
+        orderService.getOrderById(2L);
+        orderService.updateOrderStatus(ORDER_ID, OrderStatus.DELIVERED);
+
+        var cache = Objects.requireNonNull(cacheManager.getCache("orders"));
+        assertThat(cache.get(2L, OrderResponseDto.class)).isNotNull();
+        assertThat(cache.get(ORDER_ID, OrderResponseDto.class).getStatus()).isEqualTo(OrderStatus.DELIVERED);
+
+        orderService.getOrderById(ORDER_ID);
+        orderService.getOrderById(2L);
+        verify(orderRepository, times(1)).findResponseById(2L);
+    }
+
+    @Test
+    void shouldEvictOnlyDeletedOrder() {
+        OrderResponseDto otherOrder = OrderResponseDto.builder().id(2L).build();
+        when(orderRepository.findResponseById(2L)).thenReturn(Optional.of(otherOrder));
+
+        orderService.getOrderById(ORDER_ID);
+        orderService.getOrderById(2L);
+        orderService.deleteOrder(ORDER_ID);
+
+        var cache = Objects.requireNonNull(cacheManager.getCache("orders"));
+        assertThat(cache.get(ORDER_ID)).isNull();
+        assertThat(cache.get(2L)).isNotNull();
+    }
+
+    @Test
+    void shouldCacheMissingOrderUntilItIsCreated() {
+        Long missingOrderId = 99L;
+        when(orderRepository.findResponseById(missingOrderId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> orderService.getOrderById(missingOrderId)).isInstanceOf(NotFoundException.class);
+        assertThatThrownBy(() -> orderService.getOrderById(missingOrderId)).isInstanceOf(NotFoundException.class);
+        verify(orderRepository, times(1)).findResponseById(missingOrderId);
+
+        Order createdOrder = Order.builder()
+                .id(missingOrderId)
+                .orderNumber("ORD99")
+                .productName("Produto Teste")
+                .quantity(1)
+                .totalValue(new BigDecimal("10.00"))
+                .orderStatus(OrderStatus.PROCESSED)
+                .build();
+        when(orderRepository.save(any(Order.class))).thenReturn(createdOrder);
+        orderService.createOrder(OrderRequestDto.builder()
+                .orderNumber("ORD99")
+                .productName("Produto Teste")
+                .quantity(1)
+                .unitPrice(new BigDecimal("10.00"))
+                .build());
+
+        assertThat(Objects.requireNonNull(cacheManager.getCache("orders-missing")).get(missingOrderId)).isNull();
+        assertThat(orderService.getOrderById(missingOrderId).getId()).isEqualTo(missingOrderId);
     }
 }
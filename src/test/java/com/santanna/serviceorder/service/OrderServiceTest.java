@@ -2,13 +2,22 @@ package com.santanna.serviceorder.service;
 
 import com.santanna.serviceorder.domain.model.Order;
 import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderBulkStatusUpdateDto;
 import com.santanna.serviceorder.domain.dto.OrderRequestDto;
 import com.santanna.serviceorder.domain.dto.OrderResponseDto;
 import com.santanna.serviceorder.app.handler.model.BadRequestException;
+import com.santanna.serviceorder.app.handler.model.ConflictException;
+import com.santanna.serviceorder.app.handler.model.DuplicateOrderException;
 import com.santanna.serviceorder.app.handler.model.InternalServerErrorException;
 import com.santanna.serviceorder.app.handler.model.NotFoundException;
+import com.santanna.serviceorder.domain.service.OrderOutboxService;
 import com.santanna.serviceorder.domain.service.OrderService;
+import com.santanna.serviceorder.infrastructure.cache.OrderSearchCache;
+import com.santanna.serviceorder.infrastructure.dedup.OrderNumberDeduplicator;
+import com.santanna.serviceorder.infrastructure.metrics.OrderMetrics;
+import com.santanna.serviceorder.infrastructure.metrics.OrderStatusCounters;
 import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
 import jakarta.validation.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,9 +26,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +39,8 @@ import org.springframework.data.redis.core.ValueOperations;
 import org.testcontainers.containers.GenericContainer;
 
 import java.math.BigDecimal;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +56,24 @@ class OrderServiceTest {
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    @Mock
+    private OrderMetrics orderMetrics;
+
+    @Mock
+    private OrderOutboxService orderOutboxService;
+
+    @Mock
+    private OrderNumberDeduplicator orderNumberDeduplicator;
+
+    @Mock
+    private OrderStatusCounters orderStatusCounters;
+
+    @Mock
+    private OrderSearchCache orderSearchCache;
+
     private Order order;
     private OrderRequestDto orderRequestDto;
 
@@ -78,6 +109,7 @@ class OrderServiceTest {
                 .quantity(3)
                 .totalValue(new BigDecimal("300.00"))
                 .orderStatus(OrderStatus.RECEIVED)
+                .version(0L)
                 .build();
     }
 
@@ -94,6 +126,7 @@ class OrderServiceTest {
         assertEquals("ORD12345", responseDto.getOrderNumber());
         assertEquals(new BigDecimal("300.00"), responseDto.getTotalValue());
         verify(orderRepository, times(1)).save(any(Order.class));
+        verify(orderOutboxService, times(1)).orderCreated(order);
     }
     @Test
     @DisplayName("Should Throw BadRequestException when order already exists")
@@ -102,6 +135,33 @@ class OrderServiceTest {
 
         var exception = assertThrows(BadRequestException.class, () -> orderService.createOrder(orderRequestDto));
         assertEquals("Order already exists", exception.getMessage());
+        verify(orderMetrics, times(1)).duplicate();
+    }
+
+    @Test
+    @DisplayName("Should Skip Order Number Lookup When Pre-Check Reports Known New")
+    void shouldSkipOrderNumberLookup_WhenKnownNew() {
+        when(orderNumberDeduplicator.isKnownNew(orderRequestDto.getOrderNumber())).thenReturn(true);
+        when(orderRepository.save(any(Order.class))).thenReturn(order);
+
+        var responseDto = orderService.createOrder(orderRequestDto);
+
+        assertEquals(1L, responseDto.getId());
+        verify(orderRepository, never()).findByOrderNumber(anyString());
+        verify(orderNumberDeduplicator, times(1)).remember("ORD12345");
+    }
+
+    @Test
+    @DisplayName("Should Throw DuplicateOrderException when unique constraint rejects order number")
+    void shouldThrowDuplicateOrderException_OnUniqueConstraintViolation() {
+        when(orderNumberDeduplicator.isKnownNew(orderRequestDto.getOrderNumber())).thenReturn(true);
+        when(orderRepository.save(any(Order.class))).thenThrow(new DataIntegrityViolationException(
+                "could not execute statement", new SQLIntegrityConstraintViolationException(
+                "Duplicate entry 'ORD12345' for key 'orders.uk_order_number'")));
+
+        var exception = assertThrows(DuplicateOrderException.class, () -> orderService.createOrder(orderRequestDto));
+        assertEquals("Order already exists", exception.getMessage());
+        verify(orderMetrics, times(1)).duplicate();
     }
 
     @Test
@@ -134,24 +194,141 @@ class OrderServiceTest {
         assertEquals("Unexpected error occurred while creating order.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Should Create Order Batch Skipping Duplicates")
+    void shouldCreateOrderBatch_SkippingDuplicates() {
+        var existing = OrderRequestDto.builder().orderNumber("ORD00001").productName("Produto Teste")
+                .quantity(1).unitPrice(new BigDecimal("10.00")).build();
+        var repeated = OrderRequestDto.builder().orderNumber("ORD12345").productName("Produto Teste")
+                .quantity(1).unitPrice(new BigDecimal("10.00")).build();
+
+        when(orderRepository.findExistingOrderNumbers(anyCollection())).thenReturn(List.of("ORD00001"));
+        when(orderRepository.insertAll(anyList())).thenReturn(List.of(order));
+
+        var result = orderService.createOrders(List.of(orderRequestDto, existing, repeated));
+
+        assertEquals(1, result.getCreated().size());
+        assertEquals(List.of("ORD00001", "ORD12345"), result.getDuplicates());
+        verify(orderRepository, times(1)).findExistingOrderNumbers(anyCollection());
+        verify(orderRepository, never()).findByOrderNumber(anyString());
+    }
+
+    @Test
+    @DisplayName("Should Retry Order Batch Without Numbers Inserted Concurrently")
+    void shouldRetryOrderBatch_WithoutConcurrentlyInsertedNumbers() {
+        var other = OrderRequestDto.builder().orderNumber("ORD00002").productName("Produto Teste")
+                .quantity(1).unitPrice(new BigDecimal("10.00")).build();
+        var otherOrder = Order.builder().id(2L).orderNumber("ORD00002").productName("Produto Teste").quantity(1)
+                .totalValue(new BigDecimal("10.00")).orderStatus(OrderStatus.RECEIVED).createdAt(LocalDateTime.now()).version(0L).build();
+
+        when(orderRepository.findExistingOrderNumbers(anyCollection())).thenReturn(List.of(), List.of("ORD12345"));
+        when(orderRepository.insertAll(anyList()))
+                .thenThrow(new DuplicateKeyException("Duplicate entry 'ORD12345' for key 'orders.uk_order_number'"))
+                .thenReturn(List.of(otherOrder));
+
+        var result = orderService.createOrders(List.of(orderRequestDto, other));
+
+        assertEquals(1, result.getCreated().size());
+        assertEquals("ORD00002", result.getCreated().get(0).getOrderNumber());
+        assertEquals(List.of("ORD12345"), result.getDuplicates());
+        verify(orderRepository).insertAll(argThat(orders -> orders.size() == 1 && orders.get(0).getOrderNumber().equals("ORD00002")));
+        verify(orderMetrics, times(1)).duplicate();
+        verify(orderNumberDeduplicator, times(1)).remember("ORD12345");
+    }
+
+    @Test
+    @DisplayName("Should Not Expose Database Details When Order Batch Violates A Constraint")
+    void shouldNotExposeDatabaseDetails_WhenOrderBatchViolatesConstraint() {
+        when(orderRepository.insertAll(anyList())).thenThrow(new DataIntegrityViolationException(
+                "NULL not allowed for column \"PRODUCT_NAME\"; SQL statement: INSERT INTO orders"));
+
+        var exception = assertThrows(BadRequestException.class, () -> orderService.createOrders(List.of(orderRequestDto)));
+
+        assertEquals("Order batch violates a database constraint.", exception.getMessage());
+    }
+
     @Test
     @DisplayName("Should Update Order Status Success")
     void shouldUpdateOrderStatus_Success() {
         when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
-        when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderRepository.updateStatusIfVersion(1L, OrderStatus.PROCESSED, 0L)).thenReturn(1);
 
         var responseDto = orderService.updateOrderStatus(1L, OrderStatus.PROCESSED);
 
         assertNotNull(responseDto);
         assertEquals(OrderStatus.PROCESSED, responseDto.getStatus());
-        verify(orderRepository, times(1)).save(order);
+        assertEquals(1L, responseDto.getVersion());
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderStatusCounters, times(1)).statusChanged(OrderStatus.RECEIVED, OrderStatus.PROCESSED);
+    }
+
+    @Test
+    @DisplayName("Should Retry Status Update When Order Version Changed Concurrently")
+    void shouldRetryStatusUpdateWhenOrderVersionChangedConcurrently() {
+        var concurrentlyUpdated = Order.builder()
+                .id(1L)
+                .orderStatus(OrderStatus.PROCESSED)
+                .version(1L)
+                .build();
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order), Optional.of(concurrentlyUpdated));
+        when(orderRepository.updateStatusIfVersion(1L, OrderStatus.DELIVERED, 0L)).thenReturn(0);
+        when(orderRepository.updateStatusIfVersion(1L, OrderStatus.DELIVERED, 1L)).thenReturn(1);
+
+        var responseDto = orderService.updateOrderStatus(1L, OrderStatus.DELIVERED);
+
+        assertEquals(OrderStatus.DELIVERED, responseDto.getStatus());
+        assertEquals(2L, responseDto.getVersion());
+        verify(orderMetrics, times(1)).optimisticLockConflict();
+        verify(orderStatusCounters, times(1)).statusChanged(OrderStatus.PROCESSED, OrderStatus.DELIVERED);
+    }
+
+    @Test
+    @DisplayName("Should Throw ConflictException When Status Update Keeps Losing The Race")
+    void shouldThrowConflictExceptionWhenStatusUpdateKeepsLosingTheRace() {
+        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.updateStatusIfVersion(1L, OrderStatus.PROCESSED, 0L)).thenReturn(0);
+
+        assertThrows(ConflictException.class, () -> orderService.updateOrderStatus(1L, OrderStatus.PROCESSED));
+        verify(orderRepository, times(3)).updateStatusIfVersion(1L, OrderStatus.PROCESSED, 0L);
+        verify(orderOutboxService, never()).orderStatusUpdated(any(Order.class));
+        verify(orderStatusCounters, never()).statusChanged(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should Bulk Update Order Status And Report Missing Ids")
+    void shouldBulkUpdateOrderStatusAndReportMissingIds() {
+        var cache = mock(Cache.class);
+        when(cacheManager.getCache("orders")).thenReturn(cache);
+        when(orderRepository.findExistingIds(anyCollection())).thenReturn(List.of(1L, 2L));
+        when(orderRepository.updateStatusByIds(anyCollection(), eq(OrderStatus.DELIVERED))).thenReturn(2);
+
+        var result = orderService.updateOrderStatuses(OrderBulkStatusUpdateDto.builder()
+                .ids(List.of(1L, 2L, 3L))
+                .targetStatus(OrderStatus.DELIVERED)
+                .build());
+
+        assertEquals(2, result.getUpdated());
+        assertEquals(List.of(3L), result.getNotFoundIds());
+        verify(cache).evict(1L);
+        verify(cache).evict(2L);
+        verify(cache, never()).clear();
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderOutboxService, times(1)).ordersStatusUpdated(anyCollection(), eq(OrderStatus.DELIVERED));
+    }
+
+    @Test
+    @DisplayName("Should Throw BadRequestException When Bulk Update Has No Ids Nor Filter")
+    void shouldThrowBadRequestExceptionWhenBulkUpdateHasNoIdsNorFilter() {
+        var request = OrderBulkStatusUpdateDto.builder().targetStatus(OrderStatus.DELIVERED).build();
+
+        assertThrows(BadRequestException.class, () -> orderService.updateOrderStatuses(request));
     }
 
     @Test
     @DisplayName("Should Throw InternalServerErrorException when unexpected error updating order")
     void shouldThrowInternalServerErrorException_WhenUnexpectedErrorUpdatingOrder() {
         when(orderRepository.findById(1L)).thenReturn(Optional.of(new Order()));
-        when(orderRepository.save(any(Order.class))).thenThrow(new RuntimeException("Unexpected save error"));
+        when(orderRepository.updateStatusIfVersion(any(), any(), any())).thenThrow(new RuntimeException("Unexpected save error"));
 
         var exception = assertThrows(InternalServerErrorException.class, () -> orderService.updateOrderStatus(1L, OrderStatus.PROCESSED));
         assertEquals("Unexpected error while updating order status.", exception.getMessage());
@@ -161,34 +338,83 @@ class OrderServiceTest {
     @DisplayName("Should Get All Orders With Pagination Successfully")
     void shouldGetAllOrdersWithPaginationSuccessfully() {
         var pageable = Pageable.ofSize(10);
-        when(orderRepository.findAll(pageable)).thenReturn(new PageImpl<>(List.of(new Order(), new Order())));
+        when(orderRepository.findAllResponses(pageable)).thenReturn(new PageImpl<>(List.of(new OrderResponseDto(), new OrderResponseDto())));
 
         Page<OrderResponseDto> response = orderService.getAllOrders(pageable);
         assertNotNull(response);
         assertEquals(2, response.getTotalElements());
-        verify(orderRepository, times(1)).findAll(pageable);
+        verify(orderRepository, times(1)).findAllResponses(pageable);
+        verify(orderRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should Page Orders By Cursor Without Count Query")
+    void shouldPageOrdersByCursorWithoutCountQuery() {
+        var newest = OrderResponseDto.builder().id(3L).createdAt(LocalDateTime.of(2024, 1, 3, 10, 0)).build();
+        var middle = OrderResponseDto.builder().id(2L).createdAt(LocalDateTime.of(2024, 1, 2, 10, 0)).build();
+        var oldest = OrderResponseDto.builder().id(1L).createdAt(LocalDateTime.of(2024, 1, 1, 10, 0)).build();
+        when(orderRepository.findFirstKeysetPage(any(Pageable.class))).thenReturn(List.of(newest, middle, oldest));
+        when(orderRepository.findKeysetPageAfter(eq(middle.getCreatedAt()), eq(2L), any(Pageable.class))).thenReturn(List.of(oldest));
+
+        var firstPage = orderService.getOrdersAfter(null, 2);
+        assertEquals(2, firstPage.getContent().size());
+        assertNotNull(firstPage.getNextCursor());
+
+        var secondPage = orderService.getOrdersAfter(firstPage.getNextCursor(), 2);
+        assertEquals(1, secondPage.getContent().size());
+        assertNull(secondPage.getNextCursor());
+        verify(orderRepository, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should Throw BadRequestException For Invalid Cursor")
+    void shouldThrowBadRequestExceptionForInvalidCursor() {
+        var exception = assertThrows(BadRequestException.class, () -> orderService.getOrdersAfter("not-a-cursor", 10));
+        assertEquals("Invalid cursor", exception.getMessage());
     }
 
     @Test
     @DisplayName("Should Get Order By ID Successfully")
     void shouldGetOrderByIdSuccessfully() {
-        Order order = new Order();
-        when(orderRepository.findById(1L)).thenReturn(Optional.of(order));
+        when(orderRepository.findResponseById(1L)).thenReturn(Optional.of(OrderResponseDto.builder().id(1L).build()));
 
         OrderResponseDto response = orderService.getOrderById(1L);
         assertNotNull(response);
-        verify(orderRepository, times(1)).findById(1L);
+        verify(orderRepository, times(1)).findResponseById(1L);
+        verify(orderRepository, never()).findById(1L);
     }
 
     @Test
     @DisplayName("Should Throw NotFoundException When Order ID Not Found")
     void shouldThrowNotFoundExceptionWhenOrderIdNotFound() {
-        when(orderRepository.findById(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findResponseById(1L)).thenReturn(Optional.empty());
 
         var exception = assertThrows(NotFoundException.class, () -> orderService.getOrderById(1L));
         assertEquals("Order not found with ID: 1", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("Should Fall Back To The Archive When Order ID Was Archived")
+    void shouldFallBackToArchiveWhenOrderIdWasArchived() {
+        when(orderRepository.findResponseById(1L)).thenReturn(Optional.empty());
+        when(orderRepository.findArchivedResponseById(1L))
+                .thenReturn(Optional.of(OrderResponseDto.builder().id(1L).status(OrderStatus.DELIVERED).build()));
+
+        OrderResponseDto response = orderService.getOrderById(1L);
+        assertEquals(OrderStatus.DELIVERED, response.getStatus());
+        verify(orderRepository, times(1)).findArchivedResponseById(1L);
+    }
+
+    @Test
+    @DisplayName("Should Throw DuplicateOrderException When Order Number Was Archived")
+    void shouldThrowDuplicateOrderExceptionWhenOrderNumberWasArchived() {
+        when(orderRepository.isArchivedOrderNumber(orderRequestDto.getOrderNumber())).thenReturn(true);
+
+        assertThrows(DuplicateOrderException.class, () -> orderService.createOrder(orderRequestDto));
+        verify(orderRepository, never()).save(any(Order.class));
+        verify(orderNumberDeduplicator, never()).isKnownNew(anyString());
+    }
+
     @Test
     @DisplayName("Should Delete Order Successfully")
     void shouldDeleteOrderSuccessfully() {
@@ -218,7 +444,7 @@ class OrderServiceTest {
         mockOrder.setProductName("Produto Teste");
         mockOrder.setTotalValue(new BigDecimal("300.00"));
 
-        when(orderRepository.findById(orderId)).thenReturn(Optional.of(order));
+        when(orderRepository.findResponseById(orderId)).thenReturn(Optional.of(OrderResponseDto.builder().id(orderId).productName(order.getProductName()).build()));
         var valueOperations = mock(ValueOperations.class);
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get("orders::" + orderId)).thenReturn(null);
@@ -226,12 +452,12 @@ class OrderServiceTest {
         OrderResponseDto result1 = orderService.getOrderById(orderId);
         assertNotNull(result1);
         assertEquals(orderId, result1.getId());
-        verify(orderRepository, times(1)).findById(orderId);
+        verify(orderRepository, times(1)).findResponseById(orderId);
 
         when(valueOperations.get("orders::" + orderId)).thenReturn(mockOrder);
         OrderResponseDto result2 = orderService.getOrderById(orderId);
         assertNotNull(result2);
         assertEquals("Produto Teste", result2.getProductName());
-        verify(orderRepository, times(2)).findById(orderId);
+        verify(orderRepository, times(2)).findResponseById(orderId);
     }
 }
\ No newline at end of file
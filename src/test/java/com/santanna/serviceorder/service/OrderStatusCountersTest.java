@@ -0,0 +1,261 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.domain.OrderStatus;
+import com.santanna.serviceorder.domain.dto.OrderStatusCountDto;
+import com.santanna.serviceorder.infrastructure.metrics.OrderStatusCounters;
+import com.santanna.serviceorder.infrastructure.repository.OrderRepository;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderStatusCountersTest {
+    private static final String COUNTS_KEY = "order:status:counts";
+    private static final List<String> KEYS = List.of(COUNTS_KEY);
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private OrderRepository orderRepository;
+
+    @Mock
+    private LoggerUtils loggerUtils;
+
+    private OrderStatusCounters orderStatusCounters;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        orderStatusCounters = new OrderStatusCounters(redisTemplate, orderRepository, loggerUtils, 60000);
+    }
+
+    @Test
+    @DisplayName("Should add unflushed local deltas to the shared Redis counts")
+    void shouldAddLocalDeltasToSharedCounts() {
+        when(hashOperations.entries(COUNTS_KEY)).thenReturn(Map.of("RECEIVED", "5", "PROCESSED", "10", "DELIVERED", "2"));
+
+        orderStatusCounters.created(OrderStatus.PROCESSED);
+        orderStatusCounters.created(OrderStatus.PROCESSED);
+        orderStatusCounters.statusChanged(OrderStatus.PROCESSED, OrderStatus.DELIVERED);
+        orderStatusCounters.deleted(OrderStatus.RECEIVED);
+
+        var summary = orderStatusCounters.summary();
+
+        assertEquals(4L, summary.getCounts().get(OrderStatus.RECEIVED));
+        assertEquals(11L, summary.getCounts().get(OrderStatus.PROCESSED));
+        assertEquals(3L, summary.getCounts().get(OrderStatus.DELIVERED));
+        assertEquals(18L, summary.getTotal());
+        verify(orderRepository, never()).countByStatus();
+    }
+
+    @Test
+    @DisplayName("Should move bulk status changes between counters")
+    void shouldMoveBulkStatusChanges() {
+        when(hashOperations.entries(COUNTS_KEY)).thenReturn(Map.of("RECEIVED", "3", "PROCESSED", "4", "DELIVERED", "0"));
+
+        orderStatusCounters.statusesChanged(List.of(
+                new OrderStatusCountDto(OrderStatus.RECEIVED, 3L),
+                new OrderStatusCountDto(OrderStatus.DELIVERED, 0L),
+                new OrderStatusCountDto(OrderStatus.PROCESSED, 1L)), OrderStatus.DELIVERED);
+
+        var summary = orderStatusCounters.summary();
+
+        assertEquals(0L, summary.getCounts().get(OrderStatus.RECEIVED));
+        assertEquals(3L, summary.getCounts().get(OrderStatus.PROCESSED));
+        assertEquals(4L, summary.getCounts().get(OrderStatus.DELIVERED));
+    }
+
+    @Test
+    @DisplayName("Should flush only non-zero deltas under the known cutoff and keep them when Redis fails")
+    void shouldFlushDeltasAndKeepThemOnFailure() {
+        orderStatusCounters.created(OrderStatus.PROCESSED);
+        orderStatusCounters.created(OrderStatus.PROCESSED);
+        orderStatusCounters.statusChanged(OrderStatus.RECEIVED, OrderStatus.DELIVERED);
+        orderStatusCounters.statusChanged(OrderStatus.DELIVERED, OrderStatus.RECEIVED);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("0"), eq("PROCESSED"), eq("2")))
+                .thenThrow(new RedisConnectionFailureException("down"))
+                .thenReturn(0L);
+
+        orderStatusCounters.flush();
+        orderStatusCounters.flush();
+        orderStatusCounters.flush();
+
+        verify(redisTemplate, times(2)).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("0"), eq("PROCESSED"), eq("2"));
+        verify(hashOperations, never()).increment(anyString(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Should reconcile instead of recreating shared counters from deltas when the hash is missing")
+    void shouldReconcileWhenSharedCountersMissingOnFlush() {
+        orderStatusCounters.created(OrderStatus.PROCESSED);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("0"), eq("PROCESSED"), eq("1")))
+                .thenReturn(-1L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(orderRepository.countByStatus()).thenReturn(List.of(new OrderStatusCountDto(OrderStatus.PROCESSED, 7L)));
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), anyString(),
+                eq("RECEIVED"), eq("0"), eq("PROCESSED"), eq("7"), eq("DELIVERED"), eq("0"))).thenReturn(1L);
+
+        orderStatusCounters.flush();
+        orderStatusCounters.flush();
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), anyString(),
+                eq("RECEIVED"), eq("PROCESSED"), eq("DELIVERED"));
+        verify(redisTemplate, times(1)).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("0"), eq("PROCESSED"), eq("1"));
+        verify(hashOperations, never()).putAll(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should keep deltas when shared counters are missing and another instance is reconciling")
+    void shouldKeepDeltasWhenSharedCountersMissingWithoutLock() {
+        orderStatusCounters.created(OrderStatus.RECEIVED);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("0"), eq("RECEIVED"), eq("1")))
+                .thenReturn(-1L)
+                .thenReturn(0L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        orderStatusCounters.flush();
+        orderStatusCounters.flush();
+        orderStatusCounters.flush();
+
+        verify(redisTemplate, times(2)).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("0"), eq("RECEIVED"), eq("1"));
+        verify(orderRepository, never()).countByStatus();
+    }
+
+    @Test
+    @DisplayName("Should drop deltas committed up to a newer cutoff because the reconciled counts already include them")
+    void shouldDropDeltasCoveredByNewerCutoff() {
+        long reconciledAt = System.currentTimeMillis() + 60000;
+        orderStatusCounters.created(OrderStatus.PROCESSED);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("0"), eq("PROCESSED"), eq("1")))
+                .thenReturn(reconciledAt);
+
+        orderStatusCounters.flush();
+        orderStatusCounters.flush();
+
+        verify(redisTemplate, times(1)).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should re-flush deltas committed after a newer cutoff under that cutoff")
+    void shouldReflushDeltasAfterNewerCutoff() {
+        orderStatusCounters.created(OrderStatus.DELIVERED);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("0"), eq("DELIVERED"), eq("1")))
+                .thenReturn(1L);
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("1"), eq("DELIVERED"), eq("1")))
+                .thenReturn(0L);
+
+        orderStatusCounters.flush();
+        orderStatusCounters.flush();
+        orderStatusCounters.flush();
+
+        verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq("1"), eq("DELIVERED"), eq("1"));
+    }
+
+    @Test
+    @DisplayName("Should count from the database when shared counters are not initialized")
+    void shouldFallBackToDatabaseWhenSharedCountersMissing() {
+        when(hashOperations.entries(COUNTS_KEY)).thenReturn(Map.of());
+        when(orderRepository.countByStatus()).thenReturn(List.of(new OrderStatusCountDto(OrderStatus.PROCESSED, 7L)));
+
+        var summary = orderStatusCounters.summary();
+
+        assertEquals(0L, summary.getCounts().get(OrderStatus.RECEIVED));
+        assertEquals(7L, summary.getCounts().get(OrderStatus.PROCESSED));
+        assertEquals(7L, summary.getTotal());
+    }
+
+    @Test
+    @DisplayName("Should count from the database while shared counters are being reconciled")
+    void shouldFallBackToDatabaseWhileReconciling() {
+        when(hashOperations.entries(COUNTS_KEY)).thenReturn(Map.of("cutoff", "1", "reconciling", "1",
+                "RECEIVED", "0", "PROCESSED", "1", "DELIVERED", "0"));
+        when(orderRepository.countByStatus()).thenReturn(List.of(new OrderStatusCountDto(OrderStatus.PROCESSED, 7L)));
+
+        var summary = orderStatusCounters.summary();
+
+        assertEquals(7L, summary.getCounts().get(OrderStatus.PROCESSED));
+        assertEquals(7L, summary.getTotal());
+    }
+
+    @Test
+    @DisplayName("Should reset shared counters under a cutoff before counting and then add the database counts")
+    void shouldReconcileWithDatabase() {
+        long before = System.currentTimeMillis();
+        orderStatusCounters.created(OrderStatus.RECEIVED);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(orderRepository.countByStatus()).thenReturn(List.of(
+                new OrderStatusCountDto(OrderStatus.RECEIVED, 1L),
+                new OrderStatusCountDto(OrderStatus.DELIVERED, 9L)));
+        when(redisTemplate.execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), anyString(),
+                eq("RECEIVED"), eq("1"), eq("PROCESSED"), eq("0"), eq("DELIVERED"), eq("9"))).thenReturn(1L);
+
+        orderStatusCounters.reconcile();
+        orderStatusCounters.flush();
+
+        InOrder inOrder = inOrder(redisTemplate, orderRepository);
+        var cutoff = ArgumentCaptor.forClass(String.class);
+        inOrder.verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), cutoff.capture(),
+                eq("RECEIVED"), eq("PROCESSED"), eq("DELIVERED"));
+        inOrder.verify(orderRepository).countByStatus();
+        inOrder.verify(redisTemplate).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), eq(cutoff.getValue()),
+                eq("RECEIVED"), eq("1"), eq("PROCESSED"), eq("0"), eq("DELIVERED"), eq("9"));
+        assertTrue(Long.parseLong(cutoff.getValue()) >= before);
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), any(), eq("RECEIVED"), eq("1"));
+        verify(hashOperations, never()).putAll(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("Should discard partially reconciled counters when the database count fails")
+    void shouldDiscardSharedCountersWhenReconcileFails() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+        when(orderRepository.countByStatus()).thenThrow(new IllegalStateException("database down"));
+
+        orderStatusCounters.reconcile();
+
+        verify(redisTemplate).delete(COUNTS_KEY);
+    }
+
+    @Test
+    @DisplayName("Should skip reconciliation when another instance holds the lock")
+    void shouldSkipReconcileWithoutLock() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(false);
+
+        orderStatusCounters.reconcile();
+
+        verify(orderRepository, never()).countByStatus();
+        verify(redisTemplate, never()).execute(ArgumentMatchers.<RedisScript<Long>>any(), eq(KEYS), anyString(),
+                eq("RECEIVED"), eq("PROCESSED"), eq("DELIVERED"));
+    }
+}
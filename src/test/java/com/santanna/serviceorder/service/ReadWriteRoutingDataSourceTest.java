@@ -0,0 +1,141 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.infrastructure.datasource.ReadWriteRoutingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ReadWriteRoutingDataSourceTest {
+    private DataSource primary;
+    private DataSource replica;
+
+    @BeforeEach
+    void setUp() {
+        primary = embeddedDatabase("primary");
+        replica = embeddedDatabase("replica");
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Should route read-only transactions to the replica and read-write ones to the primary")
+    void shouldRouteByTransactionReadOnlyFlag() {
+        var routing = routing(Duration.ZERO);
+
+        assertEquals("replica", currentDatabase(routing, true));
+        assertEquals("primary", currentDatabase(routing, false));
+    }
+
+    @Test
+    @DisplayName("Should route reads without a transaction to the primary")
+    void shouldRouteNonTransactionalReadsToPrimary() {
+        var jdbcTemplate = new JdbcTemplate(new LazyConnectionDataSourceProxy(routing(Duration.ZERO)));
+
+        assertEquals("primary", jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    @Test
+    @DisplayName("Should keep read-only transactions of the writing thread on the primary right after a committed write")
+    void shouldFallBackToPrimaryAfterWrite() {
+        var routing = routing(Duration.ofMinutes(1));
+        assertEquals("replica", currentDatabase(routing, true));
+
+        write(routing);
+
+        assertEquals("primary", currentDatabase(routing, true));
+    }
+
+    @Test
+    @DisplayName("Should keep routing reads from other threads to the replica right after a write")
+    void shouldRouteOtherThreadsToReplicaAfterWrite() throws Exception {
+        var routing = routing(Duration.ofMinutes(1));
+
+        write(routing);
+
+        assertEquals("replica", CompletableFuture.supplyAsync(() -> currentDatabase(routing, true)).get());
+        assertEquals("primary", currentDatabase(routing, true));
+    }
+
+    @Test
+    @DisplayName("Should route a follow-up request on a new virtual thread to the replica after a write request")
+    void shouldNotCarryWriteWindowAcrossRequests() throws Exception {
+        var routing = routing(Duration.ofMinutes(1));
+
+        var writeRequest = Thread.ofVirtual().start(() -> write(routing));
+        writeRequest.join();
+        var readResult = new AtomicReference<String>();
+        var readRequest = Thread.ofVirtual().start(() -> readResult.set(currentDatabase(routing, true)));
+        readRequest.join();
+
+        assertEquals("replica", readResult.get());
+    }
+
+    @Test
+    @DisplayName("Should not fall back to the primary when the write is rolled back")
+    void shouldIgnoreRolledBackWrites() {
+        var routing = routing(Duration.ofMinutes(1));
+        var dataSource = new LazyConnectionDataSourceProxy(routing);
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            new JdbcTemplate(dataSource).update("UPDATE node SET name = name");
+            status.setRollbackOnly();
+        });
+
+        assertEquals("replica", currentDatabase(routing, true));
+    }
+
+    @Test
+    @DisplayName("Should serve read-only transactions from the primary when no replica is configured")
+    void shouldUsePrimaryWithoutReplicas() {
+        var routing = new ReadWriteRoutingDataSource(primary, List.of(), Duration.ZERO);
+
+        assertEquals("primary", currentDatabase(routing, true));
+    }
+
+    private ReadWriteRoutingDataSource routing(Duration primaryAfterWrite) {
+        return new ReadWriteRoutingDataSource(primary, List.of(replica), primaryAfterWrite);
+    }
+
+    private String currentDatabase(ReadWriteRoutingDataSource routing, boolean readOnly) {
+        var dataSource = new LazyConnectionDataSourceProxy(routing);
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void write(ReadWriteRoutingDataSource routing) {
+        var dataSource = new LazyConnectionDataSourceProxy(routing);
+        var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.executeWithoutResult(status ->
+                new JdbcTemplate(dataSource).update("UPDATE node SET name = name"));
+    }
+
+    private DataSource embeddedDatabase(String name) {
+        var dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
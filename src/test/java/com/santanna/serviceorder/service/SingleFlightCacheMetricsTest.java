@@ -0,0 +1,78 @@
+package com.santanna.serviceorder.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.santanna.serviceorder.infrastructure.cache.SingleFlightCache;
+import com.santanna.serviceorder.infrastructure.cache.SingleFlightCacheMeterBinderProvider;
+import com.santanna.serviceorder.infrastructure.config.RedisConfig;
+import com.santanna.serviceorder.utils.LoggerUtils;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.metrics.cache.CacheMetricsRegistrar;
+import org.springframework.boot.actuate.metrics.cache.RedisCacheMeterBinderProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class SingleFlightCacheMetricsTest {
+    private static final Tag CACHE_MANAGER_TAG = Tag.of("cache.manager", "cacheManager");
+
+    private SimpleMeterRegistry meterRegistry;
+    private Cache ordersCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        var cacheManager = new RedisConfig().cacheManager(
+                RedisCacheWriter.nonLockingRedisCacheWriter(mock(RedisConnectionFactory.class)),
+                new ObjectMapper(),
+                mock(StringRedisTemplate.class),
+                meterRegistry,
+                mock(LoggerUtils.class));
+        ordersCache = cacheManager.getCache("orders");
+    }
+
+    @Test
+    @DisplayName("Should bind the Redis cache.gets hit and miss meters through the single-flight wrapper")
+    void shouldBindRedisHitAndMissMetersThroughWrapper() {
+        assertInstanceOf(SingleFlightCache.class, ordersCache);
+        var registrar = new CacheMetricsRegistrar(meterRegistry,
+                List.of(new SingleFlightCacheMeterBinderProvider(), new RedisCacheMeterBinderProvider()));
+
+        assertTrue(registrar.bindCacheToRegistry(ordersCache, CACHE_MANAGER_TAG));
+
+        var hits = meterRegistry.find("cache.gets").tags("cache", "orders", "result", "hit").functionCounter();
+        var misses = meterRegistry.find("cache.gets").tags("cache", "orders", "result", "miss").functionCounter();
+        assertNotNull(hits);
+        assertNotNull(misses);
+        assertEquals(0.0, hits.count());
+        assertEquals(0.0, misses.count());
+    }
+
+    @Test
+    @DisplayName("Should not bind cache.gets meters for the wrapper with the Redis provider alone")
+    void shouldNotBindWrapperWithRedisProviderAlone() {
+        var registrar = new CacheMetricsRegistrar(meterRegistry, List.of(new RedisCacheMeterBinderProvider()));
+
+        assertFalse(registrar.bindCacheToRegistry(ordersCache, CACHE_MANAGER_TAG));
+        assertNull(meterRegistry.find("cache.gets").tag("cache", "orders").functionCounter());
+    }
+
+    @Test
+    @DisplayName("Should leave caches that do not wrap a Redis cache to their own meters")
+    void shouldSkipWrappedNonRedisCaches() {
+        var registrar = new CacheMetricsRegistrar(meterRegistry, List.of(new SingleFlightCacheMeterBinderProvider()));
+        var localCache = new SingleFlightCache(new ConcurrentMapCache("local"), meterRegistry);
+
+        assertFalse(registrar.bindCacheToRegistry(localCache, CACHE_MANAGER_TAG));
+    }
+}
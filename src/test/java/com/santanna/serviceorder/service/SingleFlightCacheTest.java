@@ -0,0 +1,86 @@
+package com.santanna.serviceorder.service;
+
+import com.santanna.serviceorder.app.handler.model.NotFoundException;
+import com.santanna.serviceorder.infrastructure.cache.SingleFlightCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightCacheTest {
+    private static final int CONCURRENT_REQUESTS = 32;
+
+    private SingleFlightCache singleFlightCache;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlightCache = new SingleFlightCache(new ConcurrentMapCache("orders"), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should run a single loader for concurrent misses on the same key")
+    void shouldRunSingleLoaderForConcurrentMisses() throws Exception {
+        var loads = new AtomicInteger();
+        var results = fireConcurrently(() -> singleFlightCache.get(1L, () -> {
+            loads.incrementAndGet();
+            Thread.sleep(100);
+            return "order-1";
+        }));
+
+        for (Future<Object> result : results) {
+            assertEquals("order-1", result.get());
+        }
+        assertEquals(1, loads.get());
+        assertEquals("order-1", singleFlightCache.get(1L).get());
+        assertEquals(1.0, meterRegistry.get("cache.single.flight.loads").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should share the loader failure with coalesced callers without caching it")
+    void shouldShareLoaderFailureWithCoalescedCallers() throws Exception {
+        var loads = new AtomicInteger();
+        var results = fireConcurrently(() -> singleFlightCache.get(2L, () -> {
+            loads.incrementAndGet();
+            Thread.sleep(100);
+            throw new NotFoundException("Order not found with ID: 2");
+        }));
+
+        for (Future<Object> result : results) {
+            var exception = assertThrows(ExecutionException.class, result::get);
+            assertInstanceOf(Cache.ValueRetrievalException.class, exception.getCause());
+            assertInstanceOf(NotFoundException.class, exception.getCause().getCause());
+        }
+        assertEquals(1, loads.get());
+        assertNull(singleFlightCache.get(2L));
+    }
+
+    private List<Future<Object>> fireConcurrently(Callable<Object> request) throws InterruptedException {
+        var startGate = new CountDownLatch(1);
+        var results = new ArrayList<Future<Object>>();
+        try (var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                results.add(executor.submit(() -> {
+                    startGate.await();
+                    return request.call();
+                }));
+            }
+            startGate.countDown();
+        }
+        return results;
+    }
+}
@@ -0,0 +1,54 @@
+package com.santanna.serviceorder.service;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.santanna.serviceorder.domain.dto.OrderResponseDto;
+import com.santanna.serviceorder.infrastructure.cache.TwoLevelCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TwoLevelCacheTest {
+    private ConcurrentMapCache redisCache;
+    private SimpleMeterRegistry meterRegistry;
+    private TwoLevelCache twoLevelCache;
+    private final List<String> publishedKeys = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        redisCache = new ConcurrentMapCache("orders");
+        meterRegistry = new SimpleMeterRegistry();
+        twoLevelCache = new TwoLevelCache("orders", Caffeine.newBuilder().maximumSize(10).build(), redisCache,
+                (cacheName, key) -> publishedKeys.add(key), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should serve repeated reads from the local cache")
+    void shouldServeRepeatedReadsFromLocalCache() {
+        redisCache.put(1L, OrderResponseDto.builder().id(1L).build());
+
+        assertEquals(1L, twoLevelCache.get(1L, OrderResponseDto.class).getId());
+        redisCache.evict(1L);
+        assertEquals(1L, twoLevelCache.get(1L, OrderResponseDto.class).getId());
+
+        assertEquals(1.0, meterRegistry.get("cache.two.level.requests").tag("level", "l1").tag("result", "hit").counter().count());
+        assertEquals(1.0, meterRegistry.get("cache.two.level.requests").tag("level", "l2").tag("result", "hit").counter().count());
+        assertEquals(0.5, meterRegistry.get("cache.two.level.hit.ratio").tag("level", "l1").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should publish invalidation and drop local entry on evict")
+    void shouldPublishInvalidationOnEvict() {
+        twoLevelCache.put(1L, OrderResponseDto.builder().id(1L).build());
+        twoLevelCache.evict(1L);
+
+        assertNull(twoLevelCache.get(1L));
+        assertEquals(List.of("1", "1"), publishedKeys);
+    }
+}